@@ -0,0 +1,74 @@
+package Coding.List;
+
+import java.security.InvalidParameterException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Learns the sizes reached by the lists of one call site and allocates new lists big enough for them right away,
+ * so that a list which regularly reaches a certain size never grows step by step.
+ *
+ * <p>
+ *     <i>
+ *         The estimate follows new peaks immediately and decays slowly (by 1/16 of the difference per observation)
+ *         towards smaller sizes, so a single outlier doesn't inflate every list created afterwards for long.
+ *     </i>
+ * </p>
+ */
+final class AdaptiveGrowthPolicy implements GrowthPolicy {
+
+    /**
+     * The estimate moves towards a smaller observation by <code>1 / 2^DECAY_SHIFT</code> of the difference.
+     */
+    private static final int DECAY_SHIFT = 4;
+
+    private final GrowthPolicy policy;
+
+    /**
+     * The size the lists of the call site are expected to reach.
+     */
+    private final AtomicInteger estimate = new AtomicInteger();
+
+    AdaptiveGrowthPolicy(GrowthPolicy policy) {
+        if (policy == null) {
+            throw new InvalidParameterException("NULL cannot be provided as policy.");
+        }
+
+        this.policy = policy;
+    }
+
+    @Override
+    public int limit(int capacity) {
+        return policy.limit(capacity);
+    }
+
+    @Override
+    public int minimumCapacity(int required) {
+        return policy.minimumCapacity(required);
+    }
+
+    @Override
+    public int grow(int capacity, int required) {
+        return policy.grow(capacity, required);
+    }
+
+    @Override
+    public int initialCapacity(int requested) {
+        return Math.max(requested, policy.minimumCapacity(estimate.get()));
+    }
+
+    @Override
+    public void record(int size) {
+        estimate.accumulateAndGet(size, (current, observed) ->
+            observed >= current ? observed : current - ((current - observed) >> DECAY_SHIFT)
+        );
+    }
+
+    /**
+     * The currently expected size.
+     *
+     * @return the number of elements.
+     */
+    int estimate() {
+        return estimate.get();
+    }
+}
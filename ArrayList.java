@@ -1,55 +1,135 @@
 package Coding.List;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.security.InvalidParameterException;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 /**
  * Simple single-threaded representation of a generic ArrayList.
  *
  * @param <T>
  */
-public class ArrayList<T> implements List<T> {
+public class ArrayList<T> implements List<T>, AutoCloseable {
 
     /**
      * Initial array size, when such is not specified.
      */
     private final static int DEFAULT_SIZE = 10;
 
+    /**
+     * The size from which the bulk operations are split across the common fork-join pool, when such is not set.
+     */
+    private final static int DEFAULT_PARALLEL_THRESHOLD = 1 << 14;
+
     /**
      * The internal elements counter.
      */
     private int index = 0;
 
     /**
-     * The factor by which a resizing will be trigger when required.
+     * Decides the capacity of the backing array, doubling it at 75% occupancy by default.
+     */
+    private final GrowthPolicy growthPolicy;
+
+    /**
+     * The number of elements the backing array holds before it has to grow, precomputed by the growth policy.
      */
-    private final static int RESIZING_FACTOR = 2;
+    private int threshold;
 
     /**
-     * Represents the percentage of elements occupying the array space,
-     * if that percentage if bigger than 75%, a resizing should take place, multiplying
-     * the current size with <code>RESIZING_FACTOR</code>, aiming to achieve occupancy less
-     * than it.
+     * Optional policy giving memory back after removals, NULL unless set.
      *
-     * @see #RESIZING_FACTOR
+     * @see #setShrinkPolicy(ShrinkPolicy)
+     */
+    private ShrinkPolicy shrinkPolicy;
+
+    /**
+     * The number of elements below which the backing array shrinks, 0 when there's no shrink policy.
      */
-    private final static int LOAD_FACTOR = 75;
+    private int shrinkThreshold;
 
     /**
      * The backing array.
      */
     private T[] arr;
 
+    /**
+     * Optional pool the backing arrays are taken from and given back to, NULL unless provided.
+     */
+    private final ArrayPool pool;
+
+    /**
+     * The order the elements are kept in, NULL unless the list is in sorted mode.
+     *
+     * @see #enableSortedMode(Comparator)
+     */
+    private Comparator<? super T> sortedBy;
+
+    /**
+     * The occupancy reported to the instrumentation, NULL unless it's enabled.
+     *
+     * @see ListStats#ENABLED
+     */
+    private final ListStats.Tracker stats;
+
+    /**
+     * Whether the backing array is shared with a snapshot, and has to be copied before it's modified in place.
+     * Appending doesn't require a copy, as the snapshots never read past their own size.
+     *
+     * @see #snapshot()
+     */
+    private boolean shared;
+
+    /**
+     * The number of structural modifications and bulk rewrites, used by the iterators to fail fast.
+     */
+    private int modCount = 0;
+
+    /**
+     * The number of times elements were replaced in place, for the views caching what they read.
+     */
+    private int writeCount = 0;
+
+    /**
+     * Optional secondary index of the values, NULL unless enabled.
+     *
+     * @see #enableValueIndex()
+     */
+    private ValueIndex valueIndex;
+
+    /**
+     * The size from which the bulk operations run in parallel.
+     *
+     * @see #setParallelThreshold(int)
+     */
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
     /**
      * Default constructor initializing the backing array with default size.
      *
      * @see #DEFAULT_SIZE
      */
-    @SuppressWarnings("unchecked")
     public ArrayList() {
-        arr = (T[]) (new Object[DEFAULT_SIZE]);
+        this(DEFAULT_SIZE, GrowthPolicy.doubling());
     }
 
     /**
@@ -59,21 +139,59 @@ public class ArrayList<T> implements List<T> {
      * @param initialSize represents the desired size that will be initialized at first.
      * @throws InvalidParameterException when the initialSize is less than 0.
      */
-    @SuppressWarnings("unchecked")
     public ArrayList(int initialSize) {
+        this(initialSize, GrowthPolicy.doubling());
+    }
+
+    /**
+     * Constructor allowing users to customize both the initial size and how the list grows afterwards.
+     *
+     * @param initialSize represents the desired size, which an adaptive policy may enlarge.
+     * @param growthPolicy decides when and how much the backing array grows.
+     * @throws InvalidParameterException when the initialSize is less than 0, or the policy is NULL.
+     */
+    public ArrayList(int initialSize, GrowthPolicy growthPolicy) {
+        this(initialSize, growthPolicy, null);
+    }
+
+    /**
+     * Constructor drawing the backing arrays from a pool, for short-lived lists which should be released
+     * (or used with try-with-resources) once they are not needed anymore.
+     *
+     * <p>
+     *     <i>
+     *         The pool may provide bigger arrays than requested. The arrays replaced by resizes are given back
+     *         to it, so spliterators of a pooled list must not be used after it's modified.
+     *     </i>
+     * </p>
+     *
+     * @param initialSize represents the desired size, which an adaptive policy may enlarge.
+     * @param growthPolicy decides when and how much the backing array grows.
+     * @param pool the pool of backing arrays, or NULL to allocate them.
+     * @throws InvalidParameterException when the initialSize is less than 0, or the policy is NULL.
+     * @see #release()
+     */
+    public ArrayList(int initialSize, GrowthPolicy growthPolicy, ArrayPool pool) {
         if (initialSize < 0) {
             throw new InvalidParameterException("Size cannot be less than 0.");
         }
 
-        arr = (T[]) new Object[initialSize];
+        if (growthPolicy == null) {
+            throw new InvalidParameterException("NULL cannot be provided as growth policy.");
+        }
+
+        this.growthPolicy = growthPolicy;
+        this.pool = pool;
+        this.stats = ListStats.ENABLED ? ListStats.track(this) : null;
+        setArray(newArray(growthPolicy.initialCapacity(initialSize)));
     }
 
     /**
      * Constructor that gives the ability to provide another collection with various number of elements,
      * which is being accepted as an initial version, making sure that after the elements are added
-     * the occupancy should still be less than <code>LOAD_FACTOR</code> percentages.
+     * the occupancy should still be within the limit of the default growth policy.
      *
-     * @see #LOAD_FACTOR
+     * @see GrowthPolicy#doubling()
      *
      * @param collection is the data-structure that will be passed and accepted as initial version.
      * @throws InvalidParameterException when <code>NULL</code> is provided, or the size of the collection is 0.
@@ -90,9 +208,10 @@ public class ArrayList<T> implements List<T> {
             throw new InvalidParameterException("Collection size should not be 0.");
         }
 
-        int size = allocateEnoughSpace(DEFAULT_SIZE, collSize);
-
-        arr = (T[]) new Object[size];
+        growthPolicy = GrowthPolicy.doubling();
+        pool = null;
+        stats = ListStats.ENABLED ? ListStats.track(this) : null;
+        setArray((T[]) new Object[capacityFor(DEFAULT_SIZE, collSize)]);
 
         System.arraycopy(collection.toArray(), 0, arr, 0, collSize);
         updateIndex(index + collSize);
@@ -118,13 +237,30 @@ public class ArrayList<T> implements List<T> {
 
     /**
      * Adds an element and allocates more space if necessary.
+     * In sorted mode, the element is inserted after all elements which don't compare greater than it.
      *
      * @param element represents the entity that will be added in the list.
      */
     public void add(T element) {
+        if (sortedBy != null) {
+            insert(element, searchBound(element, true));
+            return;
+        }
+
+        if (index >= threshold) {
+            grow(index + 1);
+        }
+
         arr[index++] = element;
+        modCount++;
+
+        if (ListStats.ENABLED) {
+            stats.size = index;
+        }
 
-        probeResizing();
+        if (valueIndex != null) {
+            valueIndex.appended(element, index - 1);
+        }
     }
 
     /**
@@ -140,18 +276,43 @@ public class ArrayList<T> implements List<T> {
      * @param element represents the entity that will be added in the list.
      * @param position is the specified index at which it will be added.
      * @throws IndexOutOfBoundsException when the position to be added is out of bounds.
+     * @throws UnsupportedOperationException when the list is in sorted mode.
      */
     public void add(T element, int position) {
         if (position < 0 || position > index) {
             throw new IndexOutOfBoundsException("Index out of range.");
         }
 
+        checkUnsorted();
+        insert(element, position);
+    }
+
+    /**
+     * Insert an element at a position, shifting the elements after it with 1 position to the right.
+     *
+     * @param element the element to be added.
+     * @param position the position, within the bounds of the list.
+     */
+    private void insert(T element, int position) {
+        if (index >= threshold) {
+            grow(index + 1);
+        }
+
         if (position != index) {
+            unshare();
             shiftElementsRight(position, 1);
         }
 
         arr[position] = element;
         updateIndex(index + 1);
+
+        if (valueIndex != null) {
+            if (position == index - 1) {
+                valueIndex.appended(element, position);
+            } else {
+                valueIndex.inserted(element, position);
+            }
+        }
     }
 
     /**
@@ -161,13 +322,13 @@ public class ArrayList<T> implements List<T> {
      *     <i>
      *         If there's not enough space to add the provided collection,
      *         a resize is being triggered allocating enough space so that they can fit
-     *         and preserve <code>LOAD_FACTOR</code> value.
+     *         and stay within the limit of the growth policy.
      *     </i>
      * </p>
      *
      * @param collection is the set of element that will be provided as an argument.
      * @throws InvalidParameterException if the collection is NULL
-     * @see #LOAD_FACTOR
+     * @see GrowthPolicy#limit(int)
      */
     public void addAll(Collection<? super T> collection) {
         if (collection == null) {
@@ -180,175 +341,1397 @@ public class ArrayList<T> implements List<T> {
             return;
         }
 
-        int size = allocateEnoughSpace(arr.length, collSize);
+        append(collection.toArray(), collSize);
+    }
 
-        if (size != arr.length) {
-            resizeArrayAndCopyContent(size);
+    /**
+     * Append the leading elements of an array with a single block copy, growing the backing array at most once.
+     *
+     * @param elements the array holding the elements, which is not retained.
+     * @param length the number of elements to be appended, from the start of the array.
+     */
+    void append(Object[] elements, int length) {
+        if (index + length > threshold) {
+            grow(index + length);
         }
 
-        System.arraycopy(collection.toArray(), 0, arr, index, collSize);
-        updateIndex(index + collSize);
-    }
+        System.arraycopy(elements, 0, arr, index, length);
+        updateIndex(index + length);
 
-    public T remove(T element) {
-        // @TODO try to find a better way, instead of linear search
-        return null;
+        if (sortedBy != null) {
+            // The sorted prefix is a single run, merged with the new elements
+            unshare();
+            Arrays.sort(arr, 0, index, sortedBy);
+            reindexValues();
+            return;
+        }
+
+        if (valueIndex != null) {
+            for (int i = index - length; i < index; i++) {
+                valueIndex.appended(arr[i], i);
+            }
+        }
     }
 
     /**
-     * Remove an element corresponding to the provided position.
+     * Adds a collection of elements starting from a specified position.
      *
-     * @param position is the index that holds the element to be removed.
-     * @return true if the element was deleted, false otherwise
-     * @throws IndexOutOfBoundsException if the provided position is not in the defined range.
+     * <p>
+     *     <i>
+     *         The elements after the position are moved only once, directly into the resized array
+     *         when a resize is required.
+     *     </i>
+     * </p>
+     *
+     * @param collection is the set of element that will be provided as an argument.
+     * @param position is the index at which the first of them will be added.
+     * @throws InvalidParameterException if the collection is NULL
+     * @throws IndexOutOfBoundsException when the position is out of bounds.
+     * @throws UnsupportedOperationException when the list is in sorted mode.
+     * @see GrowthPolicy#limit(int)
      */
-    public boolean remove(int position) {
-        if (isIndexOutOfBounds(position)) {
-            return false;
+    @Override
+    public void addAll(Collection<? super T> collection, int position) {
+        if (collection == null) {
+            throw new InvalidParameterException("NULL cannot be passed as collection argument.");
         }
 
-        int lastElementPos = --index;
+        if (position < 0 || position > index) {
+            throw new IndexOutOfBoundsException("Index out of range.");
+        }
 
-        if (position == lastElementPos) {
-            arr[position] = null;
-        } else {
-            shiftElementsLeft(position);
-            arr[lastElementPos] = null;
+        checkUnsorted();
+
+        Object[] elements = collection.toArray();
+
+        if (elements.length == 0) {
+            return;
         }
 
-        return true;
+        openGap(position, elements.length);
+
+        System.arraycopy(elements, 0, arr, position, elements.length);
+        updateIndex(index + elements.length);
+
+        reindexValues();
     }
 
     /**
-     * Clears all elements within the list.
+     * Remove the first occurrence of an element.
+     *
+     * <p>
+     *     <i>
+     *         The element is found in O(1) when the value index is enabled, by a linear search otherwise.
+     *     </i>
+     * </p>
+     *
+     * @param element the element to be removed.
+     * @return the removed element, or NULL if it's not present.
+     * @see #enableValueIndex()
      */
-    @SuppressWarnings("unchecked")
-    public void clear() {
-        arr = (T[]) new Object[arr.length];
-        updateIndex(0);
+    public T remove(T element) {
+        int position = indexOf(element);
+
+        if (position < 0) {
+            return null;
+        }
+
+        T removed = arr[position];
+        remove(position);
+
+        return removed;
     }
 
     /**
-     * Get an element corresponding to a certain position.
+     * Get the position of the first occurrence of an element.
      *
-     * @param position is the index from which the element will be taken.
-     * @return the element
-     * @throws IndexOutOfBoundsException if the position is not in the defined range.
+     * @param element the element to be searched.
+     * @return the position, or -1 if the element is not present.
+     * @see #enableValueIndex()
      */
-    public T get(int position) {
-        if (position < 0 || position >= arr.length) {
-            throw new IndexOutOfBoundsException("Index out of range.");
+    @Override
+    public int indexOf(T element) {
+        if (valueIndex != null) {
+            return valueIndex.indexOf(element, arr, index);
         }
 
-        return arr[position];
+        if (sortedBy != null) {
+            for (int i = searchBound(element, false); i < index && sortedBy.compare(arr[i], element) == 0; i++) {
+                if (Objects.equals(element, arr[i])) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+
+        for (int i = 0; i < index; i++) {
+            if (Objects.equals(element, arr[i])) {
+                return i;
+            }
+        }
+
+        return -1;
     }
 
+    /**
+     * Check if the element is present, in O(1) when the value index is enabled.
+     *
+     * @param element the element to be searched.
+     * @return true if the list contains it.
+     * @see #enableValueIndex()
+     */
     @Override
-    public String toString() {
-        return Arrays.toString(arr);
+    public boolean contains(T element) {
+        if (valueIndex != null) {
+            return valueIndex.contains(element);
+        }
+
+        return indexOf(element) >= 0;
     }
 
+    /**
+     * Sort the elements in place, within the backing array. The sort is stable.
+     * In sorted mode, the list keeps the new order from now on.
+     *
+     * @param comparator the order of the elements, NULL for their natural order.
+     */
     @Override
-    public Iterator<T> iterator() {
-        return new Iterator<T>() {
-
-            int idx = 0;
+    public void sort(Comparator<? super T> comparator) {
+        unshare();
+        Arrays.sort(arr, 0, index, comparator);
+        sorted(comparator);
+    }
 
-            @Override
-            public boolean hasNext() {
-                return idx < index;
-            }
+    /**
+     * Sort the elements in place with the fork-join common pool, which pays off for big lists. The sort is stable.
+     * In sorted mode, the list keeps the new order from now on.
+     *
+     * @param comparator the order of the elements, NULL for their natural order.
+     */
+    public void parallelSort(Comparator<? super T> comparator) {
+        unshare();
+        Arrays.parallelSort(arr, 0, index, comparator);
+        sorted(comparator);
+    }
 
-            @Override
-            public T next() {
-                return arr[idx++];
-            }
-        };
+    /**
+     * Search an element in the backing array, which must be sorted by the comparator.
+     *
+     * @param element the element to be searched.
+     * @param comparator the order the list is sorted by, NULL for the natural order of the elements.
+     * @return the position of an element comparing equal, otherwise <code>-(insertion point) - 1</code>.
+     */
+    @Override
+    public int binarySearch(T element, Comparator<? super T> comparator) {
+        return Arrays.binarySearch(arr, 0, index, element, comparator);
     }
 
     /**
-     * Check if the provided index is out of bounds.
+     * Sort the list and keep it sorted - every element is added at its binary-searched position,
+     * and <code>indexOf</code>, <code>contains</code> and <code>remove(T)</code> take O(log n).
+     * Adding or replacing elements at a position is not allowed while the mode is enabled.
      *
-     * @param index the value that will be checked against the defined constraints.
-     * @return true if it's out of bounds, false otherwise.
+     * @param comparator the order of the elements, NULL for their natural order.
      */
-    private boolean isIndexOutOfBounds(int index) {
-        return index < 0 || index >= this.index;
+    public void enableSortedMode(Comparator<? super T> comparator) {
+        sort(comparator);
+        sortedBy = orderOf(comparator);
+    }
+
+    /**
+     * Stop keeping the list sorted, appending the elements again.
+     */
+    public void disableSortedMode() {
+        sortedBy = null;
     }
 
     /**
-     * Check the occupancy of the array and resize (along with copying all current content) accordingly, if necessary.
+     * Replace the element at a position.
      *
-     * @see #LOAD_FACTOR
-     * @see #RESIZING_FACTOR
+     * @param element the new element.
+     * @param position the position of the replaced element.
+     * @return the replaced element.
+     * @throws IndexOutOfBoundsException if the position is not in the defined range.
+     * @throws UnsupportedOperationException when the list is in sorted mode.
      */
-    private void probeResizing() {
-        if (getPercentageOccupied(index, arr.length) >= LOAD_FACTOR) {
-            resizeArrayAndCopyContent(arr.length * RESIZING_FACTOR);
+    @Override
+    public T set(T element, int position) {
+        if (isIndexOutOfBounds(position)) {
+            throw new IndexOutOfBoundsException("Index out of range.");
         }
+
+        return replace(position, element);
     }
 
     /**
-     * Switch the current backing array with one which has more space, along with copying the content.
+     * Set the size from which {@link #replaceAll(UnaryOperator)}, {@link #setAll(IntFunction)},
+     * {@link #parallelMap(Function)} and {@link #fill(Object)} split the elements across the common fork-join pool.
+     * Below it they run as a sequential loop on the calling thread.
      *
-     * @param size is the newly calculated size, enough to fit a specific number of elements.
+     * @param parallelThreshold the number of elements, at least 1.
+     * @throws InvalidParameterException when the threshold is less than 1.
      */
-    @SuppressWarnings("unchecked")
-    private void resizeArrayAndCopyContent(int size) {
-        T[] resizedArr = (T[]) new Object[size];
-        System.arraycopy(arr, 0, resizedArr, 0, index);
-        arr = resizedArr;
+    public void setParallelThreshold(int parallelThreshold) {
+        if (parallelThreshold < 1) {
+            throw new InvalidParameterException("Threshold cannot be less than 1.");
+        }
+
+        this.parallelThreshold = parallelThreshold;
     }
 
     /**
-     * Get how many percentages are occupied from the list.
+     * Replace every element with the result of an operator applied to it, in parallel for big lists.
+     * The operator must be safe to call from several threads, and if it throws some elements may be replaced already.
+     * Like a structural modification, it makes the open iterators and views fail fast.
      *
-     * @param elements represents the number of already taken positions in the list.
-     * @param totalElements is the allocated size, including the empty spaces of the list.
-     * @return the percentages occupied.
+     * @param operator the transformation of the elements.
+     * @throws InvalidParameterException if the operator is NULL
+     * @throws UnsupportedOperationException when the list is in sorted mode.
      */
-    private long getPercentageOccupied(int elements, int totalElements) {
-        return Math.round(((float) elements / (float) totalElements) * 100);
+    @Override
+    public void replaceAll(UnaryOperator<T> operator) {
+        if (operator == null) {
+            throw new InvalidParameterException("NULL cannot be passed as operator argument.");
+        }
+
+        checkUnsorted();
+        unshare();
+        modCount++;
+        writeCount++;
+
+        T[] elements = arr;
+        forEachRange((from, to) -> {
+            for (int i = from; i < to; i++) {
+                elements[i] = operator.apply(elements[i]);
+            }
+        });
+
+        reindexValues();
     }
 
     /**
-     * Shift elements 1 position to the left.
+     * Replace every element with the one generated for its position, in parallel for big lists.
+     * The generator must be safe to call from several threads.
+     * Like a structural modification, it makes the open iterators and views fail fast.
      *
-     * @param fromIndex is the position from which it's started.
+     * @param generator creates the element of a position.
+     * @throws InvalidParameterException if the generator is NULL
+     * @throws UnsupportedOperationException when the list is in sorted mode.
      */
-    private void shiftElementsLeft(int fromIndex) {
-        System.arraycopy(arr, fromIndex + 1, arr, fromIndex, index - fromIndex);
+    public void setAll(IntFunction<? extends T> generator) {
+        if (generator == null) {
+            throw new InvalidParameterException("NULL cannot be passed as generator argument.");
+        }
+
+        checkUnsorted();
+        unshare();
+        modCount++;
+        writeCount++;
+
+        T[] elements = arr;
+        forEachRange((from, to) -> {
+            for (int i = from; i < to; i++) {
+                elements[i] = generator.apply(i);
+            }
+        });
+
+        reindexValues();
     }
 
-    private int allocateEnoughSpace(int currentLength, int collectionSize) {
-        int arrSpace = currentLength;
+    /**
+     * Replace every element with the same one, in parallel for big lists.
+     * Like a structural modification, it makes the open iterators and views fail fast.
+     *
+     * @param element the element every position will hold.
+     */
+    public void fill(T element) {
+        unshare();
+        modCount++;
+        writeCount++;
 
-        // @TODO Optimize
-        while ((arrSpace - index) < collectionSize || getPercentageOccupied(index + collectionSize, arrSpace) > LOAD_FACTOR) {
-            arrSpace *= RESIZING_FACTOR;
-        }
+        T[] elements = arr;
+        forEachRange((from, to) -> Arrays.fill(elements, from, to, element));
 
-        return arrSpace;
+        reindexValues();
     }
 
     /**
-     * Shift elements starting from <b>fromIndex</b> - <b>positionsRight</b> to the right.
+     * Transform every element into a new list of the same size, in parallel for big lists. The results are written
+     * straight into the backing array of the new list, which is allocated once with exactly their number.
+     * The function must be safe to call from several threads.
      *
-     * @param fromIndex represents the position from which all values forward will be moved.
-     * @param positionsRight represents how many positions those values will be moved to the right.
+     * @param function the transformation of the elements.
+     * @param <R> the type of the transformed elements.
+     * @return the new list.
+     * @throws InvalidParameterException if the function is NULL
      */
-    private void shiftElementsRight(int fromIndex, int positionsRight) {
-        if (index - fromIndex >= 0) {
-            System.arraycopy(arr, fromIndex, arr, fromIndex + positionsRight, index - fromIndex);
+    public <R> ArrayList<R> parallelMap(Function<? super T, ? extends R> function) {
+        if (function == null) {
+            throw new InvalidParameterException("NULL cannot be passed as function argument.");
+        }
+
+        T[] elements = arr;
+        Object[] mapped = new Object[index];
+
+        forEachRange((from, to) -> {
+            for (int i = from; i < to; i++) {
+                mapped[i] = function.apply(elements[i]);
+            }
+        });
+
+        return wrap(mapped);
+    }
+
+    /**
+     * Start maintaining a hash index of the values, which gives O(1) expected <code>contains</code>,
+     * <code>indexOf</code> and <code>remove(T)</code> at the cost of a hash lookup on every modification.
+     * The elements must not change their <code>equals</code>/<code>hashCode</code> while they are in the list.
+     */
+    public void enableValueIndex() {
+        if (valueIndex == null) {
+            valueIndex = new ValueIndex();
+            valueIndex.rebuild(arr, index);
         }
     }
 
     /**
-     * Update the internal index, indicating how many elements are occupying the backing array.
+     * Remove an element corresponding to the provided position.
      *
-     * @param size is the new value, taking into account the newly added element/s.
+     * @param position is the index that holds the element to be removed.
+     * @return true if the element was deleted, false otherwise
+     * @throws IndexOutOfBoundsException if the provided position is not in the defined range.
      */
-    private void updateIndex(int size) {
-        index = size;
+    public boolean remove(int position) {
+        if (isIndexOutOfBounds(position)) {
+            return false;
+        }
+
+        unshare();
+
+        int lastElementPos = --index;
+        modCount++;
+
+        if (ListStats.ENABLED) {
+            stats.size = index;
+        }
+
+        if (valueIndex != null) {
+            valueIndex.removed(arr[position], position, position == lastElementPos);
+        }
+
+        if (position == lastElementPos) {
+            arr[position] = null;
+        } else {
+            shiftElementsLeft(position);
+            arr[lastElementPos] = null;
+        }
+
+        if (index < shrinkThreshold) {
+            shrink();
+        }
+
+        return true;
+    }
+
+    /**
+     * Remove all elements with positions in the range <b>from</b> (inclusive) - <b>to</b> (exclusive),
+     * with a single shift of the elements after it.
+     *
+     * @param from the position of the first element to be removed.
+     * @param to the position after the last element to be removed.
+     * @throws IndexOutOfBoundsException when the range is out of bounds.
+     */
+    @Override
+    public void removeRange(int from, int to) {
+        if (from < 0 || to > index || from > to) {
+            throw new IndexOutOfBoundsException("Range out of bounds.");
+        }
+
+        int newSize = index - (to - from);
+
+        unshare();
+        System.arraycopy(arr, to, arr, from, index - to);
+
+        if (ListStats.ENABLED) {
+            ListStats.shifted(index - to);
+        }
+
+        Arrays.fill(arr, newSize, index, null);
+        updateIndex(newSize);
+
+        reindexValues();
+
+        if (index < shrinkThreshold) {
+            shrink();
+        }
+    }
+
+    /**
+     * Remove all elements matching the filter in a single compaction pass,
+     * moving every contiguous block of kept elements with one copy.
+     *
+     * <p>
+     *     <i>
+     *         If the filter throws, the elements which weren't tested yet are kept.
+     *     </i>
+     * </p>
+     *
+     * @param filter returns true for the elements to be removed.
+     * @return true if any element was removed.
+     * @throws InvalidParameterException if the filter is NULL
+     */
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new InvalidParameterException("NULL cannot be passed as filter argument.");
+        }
+
+        int write = 0;
+
+        while (write < index && !filter.test(arr[write])) {
+            write++;
+        }
+
+        if (write == index) {
+            return false;
+        }
+
+        unshare();
+
+        int blockStart = write + 1;
+
+        try {
+            for (int read = blockStart; read < index; read++) {
+                if (filter.test(arr[read])) {
+                    System.arraycopy(arr, blockStart, arr, write, read - blockStart);
+
+                    if (ListStats.ENABLED) {
+                        ListStats.shifted(read - blockStart);
+                    }
+
+                    write += read - blockStart;
+                    blockStart = read + 1;
+                }
+            }
+        } finally {
+            System.arraycopy(arr, blockStart, arr, write, index - blockStart);
+
+            if (ListStats.ENABLED) {
+                ListStats.shifted(index - blockStart);
+            }
+
+            write += index - blockStart;
+
+            Arrays.fill(arr, write, index, null);
+            updateIndex(write);
+
+            reindexValues();
+        }
+
+        if (index < shrinkThreshold) {
+            shrink();
+        }
+
+        return true;
+    }
+
+    /**
+     * Clears all elements within the list.
+     *
+     * <p>
+     *     <i>
+     *         The backing array is reused by nulling only the occupied positions, unless the shrink policy
+     *         replaces it with a smaller one, or it's shared with a snapshot.
+     *     </i>
+     * </p>
+     */
+    public void clear() {
+        growthPolicy.record(index);
+
+        int size = shrinkThreshold > 0 ? shrinkPolicy.shrink(arr.length, 0, growthPolicy) : arr.length;
+
+        if (size < arr.length || shared) {
+            replaceArray(newArray(size));
+        } else {
+            Arrays.fill(arr, 0, index, null);
+        }
+
+        updateIndex(0);
+
+        if (valueIndex != null) {
+            valueIndex.cleared();
+        }
+    }
+
+    /**
+     * Take an immutable snapshot of the elements in O(1), which can be handed to other threads without copying.
+     *
+     * <p>
+     *     <i>
+     *         The snapshot shares the backing array. This list copies it the next time it's modified
+     *         anywhere other than at the end, so taking a snapshot after every batch of additions stays cheap.
+     *     </i>
+     * </p>
+     *
+     * @return the snapshot.
+     */
+    public ImmutableList<T> snapshot() {
+        shared = true;
+
+        return new ImmutableList<>(arr, index);
+    }
+
+    /**
+     * A view of the elements in the range <b>from</b> (inclusive) - <b>to</b> (exclusive), created in O(1).
+     * It reads straight from the backing array of this list, which must not be structurally modified
+     * while the view is used.
+     *
+     * @param from the position of the first element of the view.
+     * @param to the position after the last element of the view.
+     * @return the view.
+     * @throws IndexOutOfBoundsException when the range is out of bounds.
+     */
+    public ListView<T> subList(int from, int to) {
+        if (from < 0 || to > index || from > to) {
+            throw new IndexOutOfBoundsException("Range out of bounds.");
+        }
+
+        return new SubListView<>(this, from, to);
+    }
+
+    /**
+     * A view transforming the elements when they are read, created in O(1).
+     *
+     * @param function the transformation, applied on every read.
+     * @param <R> the type of the transformed elements.
+     * @return the view.
+     * @throws InvalidParameterException if the function is NULL
+     */
+    public <R> ListView<R> mapped(Function<? super T, ? extends R> function) {
+        return new SubListView<>(this, 0, index).mapped(function);
+    }
+
+    /**
+     * A view of the elements matching a predicate, which are found when the view is first read.
+     *
+     * @param filter returns true for the elements of the view.
+     * @return the view.
+     * @throws InvalidParameterException if the filter is NULL
+     */
+    public ListView<T> filtered(Predicate<? super T> filter) {
+        return new SubListView<>(this, 0, index).filtered(filter);
+    }
+
+    /**
+     * Write the elements to a channel in the binary format of the lists, encoding them through a codec
+     * into 64KB chunks.
+     *
+     * @param channel the destination.
+     * @param codec the fixed-width representation of the elements, which must all be supported by it.
+     * @throws IOException when writing fails.
+     * @throws InvalidParameterException when the channel or the codec is NULL.
+     * @see #readFrom(ReadableByteChannel, Codec)
+     */
+    public void writeTo(WritableByteChannel channel, Codec<? super T> codec) throws IOException {
+        if (channel == null || codec == null) {
+            throw new InvalidParameterException("NULL cannot be provided as an argument.");
+        }
+
+        int width = codec.width();
+        ByteBuffer header = BinaryFormat.header(BinaryFormat.OBJECT, width, index);
+        ByteBuffer chunk = BinaryFormat.chunk(width);
+        int chunkElements = chunk.capacity() / width;
+        int from = 0;
+
+        do {
+            int count = Math.min(index - from, chunkElements);
+            chunk.clear();
+
+            for (int i = 0; i < count; i++) {
+                codec.write(chunk, i * width, arr[from + i]);
+            }
+
+            chunk.limit(count * width);
+            BinaryFormat.writeFully(channel, header, chunk);
+            from += count;
+        } while (from < index);
+    }
+
+    /**
+     * Read a list written by {@link #writeTo(WritableByteChannel, Codec)}, allocating its whole capacity
+     * up front from the count in the header.
+     *
+     * @param channel the source, positioned at the start of the list.
+     * @param codec the representation the elements were written with.
+     * @param <T>
+     * @return the list.
+     * @throws IOException when the data is not a list written with the same element width, or reading fails.
+     * @throws InvalidParameterException when the channel or the codec is NULL.
+     */
+    public static <T> ArrayList<T> readFrom(ReadableByteChannel channel, Codec<T> codec) throws IOException {
+        if (channel == null || codec == null) {
+            throw new InvalidParameterException("NULL cannot be provided as an argument.");
+        }
+
+        int width = codec.width();
+        int count = BinaryFormat.readHeader(channel, BinaryFormat.OBJECT, width);
+
+        ArrayList<T> list = new ArrayList<>();
+        list.ensureCapacity(count);
+
+        ByteBuffer chunk = BinaryFormat.chunk(width);
+        int chunkElements = chunk.capacity() / width;
+
+        for (int from = 0; from < count; ) {
+            int elements = Math.min(count - from, chunkElements);
+            chunk.clear().limit(elements * width);
+            BinaryFormat.readFully(channel, chunk);
+
+            for (int i = 0; i < elements; i++) {
+                list.arr[from + i] = codec.read(chunk, i * width);
+            }
+
+            from += elements;
+        }
+
+        list.updateIndex(count);
+
+        return list;
+    }
+
+    /**
+     * Remove all elements and give the backing array back to the pool, or to the garbage collector
+     * when there's none. The list stays usable, allocating a new array with the next addition.
+     */
+    public void release() {
+        growthPolicy.record(index);
+
+        replaceArray(newArray(0));
+        updateIndex(0);
+
+        if (valueIndex != null) {
+            valueIndex.cleared();
+        }
+    }
+
+    /**
+     * Release the list at the end of a try-with-resources block.
+     *
+     * @see #release()
+     */
+    @Override
+    public void close() {
+        release();
+    }
+
+    /**
+     * The length of the backing array.
+     *
+     * @return the number of elements the list can hold without reallocating, ignoring the growth policy limit.
+     */
+    public int capacity() {
+        return arr.length;
+    }
+
+    /**
+     * Make sure a number of elements can be held without any further resizes,
+     * allocating the capacity the growth policy requires for them at once.
+     *
+     * @param minCapacity the number of elements.
+     * @throws InvalidParameterException when the minCapacity is less than 0.
+     * @see GrowthPolicy#minimumCapacity(int)
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new InvalidParameterException("Capacity cannot be less than 0.");
+        }
+
+        if (minCapacity > threshold) {
+            resizeArrayAndCopyContent(Math.max(growthPolicy.minimumCapacity(minCapacity), arr.length));
+        }
+    }
+
+    /**
+     * Shrink the backing array to exactly the number of elements, giving all spare memory back.
+     * The next addition grows it again.
+     */
+    public void trimToSize() {
+        if (arr.length > index) {
+            resizeArrayAndCopyContent(index);
+        }
+    }
+
+    /**
+     * Shrink the backing array automatically after removals and <code>clear()</code>.
+     *
+     * @param shrinkPolicy the policy deciding when and how much, or NULL to keep the capacity.
+     * @see ShrinkPolicy#hysteresis()
+     */
+    public void setShrinkPolicy(ShrinkPolicy shrinkPolicy) {
+        this.shrinkPolicy = shrinkPolicy;
+        setArray(arr);
+    }
+
+    /**
+     * Get an element corresponding to a certain position.
+     *
+     * @param position is the index from which the element will be taken.
+     * @return the element
+     * @throws IndexOutOfBoundsException if the position is not in the defined range.
+     */
+    public T get(int position) {
+        if (position < 0 || position >= arr.length) {
+            throw new IndexOutOfBoundsException("Index out of range.");
+        }
+
+        return arr[position];
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(arr);
+    }
+
+    /**
+     * Spliterator over the backing array, which is sized and splits evenly for parallel streams.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArraySpliterator<>(arr, 0, index);
+    }
+
+    /**
+     * Apply the action to every element, in a tight loop over the backing array without allocating an iterator.
+     *
+     * @param action the consumer receiving the elements.
+     * @throws ConcurrentModificationException if the list is structurally modified by the action.
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        forEach(action, 0, index);
+    }
+
+    /**
+     * Apply the action to the elements with positions in the range <b>from</b> (inclusive) - <b>to</b> (exclusive).
+     *
+     * @param action the consumer receiving the elements.
+     * @param from the position of the first element.
+     * @param to the position after the last element.
+     * @throws InvalidParameterException if the action is NULL
+     * @throws IndexOutOfBoundsException when the range is out of bounds.
+     * @throws ConcurrentModificationException if the list is structurally modified by the action.
+     */
+    public void forEach(Consumer<? super T> action, int from, int to) {
+        checkRange(action, from, to);
+
+        T[] arr = this.arr;
+        int expectedModCount = modCount;
+
+        for (int i = from; i < to && modCount == expectedModCount; i++) {
+            action.accept(arr[i]);
+        }
+
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Apply the action to every element together with its position.
+     *
+     * @param action the consumer receiving the elements and their positions.
+     * @throws ConcurrentModificationException if the list is structurally modified by the action.
+     */
+    public void forEachIndexed(ObjIntConsumer<? super T> action) {
+        forEachIndexed(action, 0, index);
+    }
+
+    /**
+     * Apply the action to the elements with positions in the range <b>from</b> (inclusive) - <b>to</b> (exclusive),
+     * together with their positions.
+     *
+     * @param action the consumer receiving the elements and their positions.
+     * @param from the position of the first element.
+     * @param to the position after the last element.
+     * @throws InvalidParameterException if the action is NULL
+     * @throws IndexOutOfBoundsException when the range is out of bounds.
+     * @throws ConcurrentModificationException if the list is structurally modified by the action.
+     */
+    public void forEachIndexed(ObjIntConsumer<? super T> action, int from, int to) {
+        checkRange(action, from, to);
+
+        T[] arr = this.arr;
+        int expectedModCount = modCount;
+
+        for (int i = from; i < to && modCount == expectedModCount; i++) {
+            action.accept(arr[i], i);
+        }
+
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Fail-fast iterator, throwing {@link ConcurrentModificationException} if the list is structurally modified
+     * other than through the iterator itself.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Itr(0);
+    }
+
+    /**
+     * Fail-fast list iterator, starting from the beginning of the list.
+     *
+     * @return the iterator.
+     * @see #listIterator(int)
+     */
+    public ListIterator<T> listIterator() {
+        return new ListItr(0);
+    }
+
+    /**
+     * Fail-fast list iterator, supporting <code>set</code> in place as well as <code>add</code> and <code>remove</code>
+     * at its cursor. For removing many elements in one pass use {@link #removeIf(Predicate)} instead.
+     *
+     * @param position the position of the element returned by the first <code>next</code>.
+     * @return the iterator.
+     * @throws IndexOutOfBoundsException when the position is out of bounds.
+     */
+    public ListIterator<T> listIterator(int position) {
+        if (position < 0 || position > index) {
+            throw new IndexOutOfBoundsException("Index out of range.");
+        }
+
+        return new ListItr(position);
+    }
+
+    private class Itr implements Iterator<T> {
+
+        /**
+         * The position of the element returned by the next <code>next</code>.
+         */
+        int cursor;
+
+        /**
+         * The position of the last returned element, -1 if it was removed or there's none.
+         */
+        int lastReturned = -1;
+
+        int expectedModCount = modCount;
+
+        Itr(int cursor) {
+            this.cursor = cursor;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < index;
+        }
+
+        @Override
+        public T next() {
+            checkForComodification();
+
+            if (cursor >= index) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = cursor++;
+
+            return arr[lastReturned];
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+
+            checkForComodification();
+
+            ArrayList.this.remove(lastReturned);
+
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private class ListItr extends Itr implements ListIterator<T> {
+
+        ListItr(int cursor) {
+            super(cursor);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor > 0;
+        }
+
+        @Override
+        public T previous() {
+            checkForComodification();
+
+            if (cursor <= 0) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = --cursor;
+
+            return arr[lastReturned];
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void set(T element) {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+
+            checkForComodification();
+
+            replace(lastReturned, element);
+        }
+
+        @Override
+        public void add(T element) {
+            checkForComodification();
+
+            ArrayList.this.add(element, cursor);
+            cursor++;
+
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * An action over the positions in the range <b>from</b> (inclusive) - <b>to</b> (exclusive).
+     */
+    @FunctionalInterface
+    private interface RangeAction {
+        void run(int from, int to);
+    }
+
+    /**
+     * Splits a range in halves until they are small enough to run the action on them directly.
+     */
+    private static final class RangeTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final RangeAction action;
+
+        private final int from;
+
+        private final int to;
+
+        private final int rangeSize;
+
+        RangeTask(RangeAction action, int from, int to, int rangeSize) {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+            this.rangeSize = rangeSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= rangeSize) {
+                action.run(from, to);
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeTask(action, from, mid, rangeSize), new RangeTask(action, mid, to, rangeSize));
+        }
+    }
+
+    /**
+     * Validate the arguments of the internal iteration methods.
+     */
+    private void checkRange(Object action, int from, int to) {
+        if (action == null) {
+            throw new InvalidParameterException("NULL cannot be passed as action argument.");
+        }
+
+        if (from < 0 || to > index || from > to) {
+            throw new IndexOutOfBoundsException("Range out of bounds.");
+        }
+    }
+
+    /**
+     * Check if the provided index is out of bounds.
+     *
+     * @param index the value that will be checked against the defined constraints.
+     * @return true if it's out of bounds, false otherwise.
+     */
+    private boolean isIndexOutOfBounds(int index) {
+        return index < 0 || index >= this.index;
+    }
+
+    /**
+     * Resize the backing array (along with copying all current content), so that the required number of elements fit.
+     *
+     * @param required the number of elements that should fit.
+     * @see GrowthPolicy#grow(int, int)
+     */
+    private void grow(int required) {
+        growthPolicy.record(required);
+        resizeArrayAndCopyContent(growthPolicy.grow(arr.length, required));
+    }
+
+    /**
+     * The capacity required for a number of elements, keeping the current one if they already fit.
+     *
+     * @param capacity the current capacity.
+     * @param required the number of elements that should fit.
+     * @return the capacity.
+     */
+    private int capacityFor(int capacity, int required) {
+        return required <= growthPolicy.limit(capacity) ? capacity : growthPolicy.grow(capacity, required);
+    }
+
+    /**
+     * Switch the backing array, precomputing the number of elements it holds before it has to grow.
+     *
+     * @param arr the new backing array.
+     */
+    private void setArray(T[] arr) {
+        if (ListStats.ENABLED) {
+            stats.capacity = arr.length;
+        }
+
+        this.arr = arr;
+        threshold = growthPolicy.limit(arr.length);
+        shrinkThreshold = shrinkPolicy == null ? 0 : shrinkPolicy.threshold(arr.length);
+    }
+
+    /**
+     * Replace the backing array with a smaller one, as decided by the shrink policy.
+     */
+    private void shrink() {
+        int size = shrinkPolicy.shrink(arr.length, index, growthPolicy);
+
+        if (size < arr.length) {
+            resizeArrayAndCopyContent(size);
+        }
+    }
+
+    /**
+     * Switch the current backing array with one which has more space, along with copying the content.
+     *
+     * @param size is the newly calculated size, enough to fit a specific number of elements.
+     */
+    private void resizeArrayAndCopyContent(int size) {
+        T[] resizedArr = newArray(size);
+        System.arraycopy(arr, 0, resizedArr, 0, index);
+
+        if (ListStats.ENABLED) {
+            ListStats.resized(arr.length, resizedArr.length, index);
+        }
+
+        replaceArray(resizedArr);
+    }
+
+    /**
+     * Allocate a backing array, or take it from the pool.
+     *
+     * @param size the minimum length of the array.
+     * @return the array, whose positions are all NULL.
+     */
+    @SuppressWarnings("unchecked")
+    private T[] newArray(int size) {
+        return (T[]) (pool == null ? new Object[size] : pool.acquire(size));
+    }
+
+    /**
+     * Switch the backing array, giving the current one back to the pool.
+     *
+     * @param arr the new backing array.
+     */
+    private void replaceArray(T[] arr) {
+        if (pool != null && !shared) {
+            pool.release(this.arr, index);
+        }
+
+        shared = false;
+        setArray(arr);
+    }
+
+    /**
+     * Copy the backing array if it's shared with a snapshot, before modifying it in place.
+     */
+    private void unshare() {
+        if (shared) {
+            T[] copy = newArray(arr.length);
+            System.arraycopy(arr, 0, copy, 0, index);
+
+            shared = false;
+            setArray(copy);
+        }
+    }
+
+    /**
+     * Shift elements 1 position to the left.
+     *
+     * @param fromIndex is the position from which it's started.
+     */
+    private void shiftElementsLeft(int fromIndex) {
+        System.arraycopy(arr, fromIndex + 1, arr, fromIndex, index - fromIndex);
+
+        if (ListStats.ENABLED) {
+            ListStats.shifted(index - fromIndex);
+        }
+    }
+
+    /**
+     * Make room for a number of elements at a position, resizing the backing array if necessary.
+     * The elements after the position are copied only once, either within the array or into the resized one.
+     *
+     * @param position the index where the room should start.
+     * @param length the number of elements that will be placed there.
+     */
+    private void openGap(int position, int length) {
+        int size = capacityFor(arr.length, index + length);
+
+        if (size == arr.length) {
+            if (position != index) {
+                unshare();
+            }
+
+            shiftElementsRight(position, length);
+            return;
+        }
+
+        T[] resizedArr = newArray(size);
+        System.arraycopy(arr, 0, resizedArr, 0, position);
+        System.arraycopy(arr, position, resizedArr, position + length, index - position);
+
+        if (ListStats.ENABLED) {
+            ListStats.resized(arr.length, resizedArr.length, index);
+        }
+
+        replaceArray(resizedArr);
+    }
+
+    /**
+     * Shift elements starting from <b>fromIndex</b> - <b>positionsRight</b> to the right.
+     *
+     * @param fromIndex represents the position from which all values forward will be moved.
+     * @param positionsRight represents how many positions those values will be moved to the right.
+     */
+    private void shiftElementsRight(int fromIndex, int positionsRight) {
+        if (index - fromIndex >= 0) {
+            System.arraycopy(arr, fromIndex, arr, fromIndex + positionsRight, index - fromIndex);
+
+            if (ListStats.ENABLED) {
+                ListStats.shifted(index - fromIndex);
+            }
+        }
+    }
+
+    /**
+     * Index the values again after a bulk modification, which costs the same as the modification itself.
+     */
+    private void reindexValues() {
+        if (valueIndex != null) {
+            valueIndex.rebuild(arr, index);
+        }
+    }
+
+    /**
+     * Replace the element at a position, which is not a structural modification.
+     *
+     * @param position the position of the replaced element.
+     * @param element the new element.
+     * @return the replaced element.
+     */
+    private T replace(int position, T element) {
+        checkUnsorted();
+        unshare();
+
+        T replaced = arr[position];
+        arr[position] = element;
+        writeCount++;
+
+        if (valueIndex != null) {
+            valueIndex.replaced(replaced, element, position);
+        }
+
+        return replaced;
+    }
+
+    /**
+     * Run an action over the positions of the elements, as a single range below the parallel threshold,
+     * otherwise split into ranges across the common fork-join pool.
+     *
+     * @param action the action, which receives disjoint ranges.
+     */
+    private void forEachRange(RangeAction action) {
+        if (index < parallelThreshold) {
+            action.run(0, index);
+            return;
+        }
+
+        // A few ranges per worker, so the workers which finish first can steal the rest
+        int rangeSize = Math.max(index / (ForkJoinPool.getCommonPoolParallelism() * 8), 1);
+        ForkJoinPool.commonPool().invoke(new RangeTask(action, 0, index, rangeSize));
+    }
+
+    /**
+     * Create a list over an array, which is adopted without copying.
+     *
+     * @param elements the elements, filling the whole array.
+     * @param <T> the type of the elements.
+     * @return the list.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> ArrayList<T> wrap(Object[] elements) {
+        ArrayList<T> list = new ArrayList<>(0);
+        list.setArray((T[]) elements);
+        list.updateIndex(elements.length);
+
+        return list;
+    }
+
+    /**
+     * The backing array, for the views reading it directly.
+     *
+     * @return the array, which is replaced when the list is resized.
+     */
+    Object[] elements() {
+        return arr;
+    }
+
+    /**
+     * The number of structural modifications, for the views to fail fast.
+     *
+     * @return the count.
+     */
+    int modCount() {
+        return modCount;
+    }
+
+    /**
+     * The number of times elements were replaced in place, for the views to drop what they cached.
+     *
+     * @return the count.
+     */
+    int writeCount() {
+        return writeCount;
+    }
+
+    /**
+     * Exchange the elements of two lists in O(1), by swapping their backing arrays.
+     * Both lists keep their own growth, shrink policies and pools.
+     *
+     * @param other the list whose elements are exchanged with these.
+     * @return false, without swapping, when any of the lists is in sorted mode.
+     */
+    boolean swap(ArrayList<T> other) {
+        if (sortedBy != null || other.sortedBy != null) {
+            return false;
+        }
+
+        T[] arr = this.arr;
+        int size = index;
+        boolean shared = this.shared;
+
+        this.shared = other.shared;
+        setArray(other.arr);
+        updateIndex(other.index);
+        reindexValues();
+
+        other.shared = shared;
+        other.setArray(arr);
+        other.updateIndex(size);
+        other.reindexValues();
+
+        return true;
+    }
+
+    /**
+     * Finish an in-place sort, which is a structural modification.
+     *
+     * @param comparator the order the elements were sorted by.
+     */
+    private void sorted(Comparator<? super T> comparator) {
+        modCount++;
+        reindexValues();
+
+        if (sortedBy != null) {
+            sortedBy = orderOf(comparator);
+        }
+    }
+
+    /**
+     * Binary search the first position whose element compares greater than (or not less than) an element,
+     * in sorted mode.
+     *
+     * @param element the searched element.
+     * @param upper whether elements comparing equal should be skipped.
+     * @return the position, between 0 and the size.
+     */
+    private int searchBound(T element, boolean upper) {
+        int low = 0;
+        int high = index;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int comparison = sortedBy.compare(arr[mid], element);
+
+            if (comparison < 0 || (upper && comparison == 0)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+
+        return low;
+    }
+
+    private void checkUnsorted() {
+        if (sortedBy != null) {
+            throw new UnsupportedOperationException("Positional modifications are not allowed in sorted mode.");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Comparator<? super T> orderOf(Comparator<? super T> comparator) {
+        return comparator != null ? comparator : (Comparator<? super T>) Comparator.naturalOrder();
+    }
+
+    /**
+     * Update the internal index, indicating how many elements are occupying the backing array.
+     * Every change of the elements count is a structural modification.
+     *
+     * @param size is the new value, taking into account the newly added element/s.
+     */
+    private void updateIndex(int size) {
+        index = size;
+        modCount++;
+
+        if (ListStats.ENABLED) {
+            stats.size = size;
+        }
     }
 }
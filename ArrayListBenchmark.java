@@ -0,0 +1,235 @@
+package Coding.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmarks measuring every {@link ArrayList} operation side-by-side with {@link java.util.ArrayList}.
+ *
+ * <p>
+ *     <i>
+ *         Each operation has a <code>coding*</code> and a <code>jdk*</code> variant operating on the same
+ *         elements, so the two scores can be compared directly. Running {@link #main(String[])} enables the
+ *         GC profiler, which reports the allocation rate next to the timings - that's where the cost of
+ *         the default growth policy becomes visible.
+ *     </i>
+ * </p>
+ *
+ * Requires <code>org.openjdk.jmh:jmh-core</code> and <code>jmh-generator-annprocess</code> on the classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ArrayListBenchmark {
+
+    /**
+     * How many random positions are read by the <code>get</code> benchmarks per invocation.
+     */
+    private final static int READS = 1024;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"Integer", "String", "Object"})
+    public String elementType;
+
+    /**
+     * The elements that are used to populate the lists.
+     */
+    private Object[] elements;
+
+    /**
+     * The same elements, used as the <code>addAll</code> argument.
+     */
+    private java.util.ArrayList<Object> source;
+
+    /**
+     * Random positions used by the <code>get</code> benchmarks.
+     */
+    private int[] positions;
+
+    private ArrayList<Object> codingList;
+
+    private java.util.ArrayList<Object> jdkList;
+
+    @Setup(Level.Trial)
+    public void createElements() {
+        Random random = new Random(42);
+
+        elements = new Object[size];
+
+        for (int i = 0; i < size; i++) {
+            elements[i] = createElement(random.nextInt());
+        }
+
+        source = new java.util.ArrayList<>(java.util.Arrays.asList(elements));
+
+        positions = new int[READS];
+
+        for (int i = 0; i < READS; i++) {
+            positions[i] = random.nextInt(size);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void fillLists() {
+        codingList = new ArrayList<>();
+        jdkList = new java.util.ArrayList<>();
+
+        for (Object element : elements) {
+            codingList.add(element);
+            jdkList.add(element);
+        }
+    }
+
+    @Benchmark
+    public ArrayList<Object> codingAdd() {
+        ArrayList<Object> list = new ArrayList<>();
+
+        for (Object element : elements) {
+            list.add(element);
+        }
+
+        return list;
+    }
+
+    @Benchmark
+    public java.util.ArrayList<Object> jdkAdd() {
+        java.util.ArrayList<Object> list = new java.util.ArrayList<>();
+
+        for (Object element : elements) {
+            list.add(element);
+        }
+
+        return list;
+    }
+
+    /**
+     * Inserts in the middle and removes the tail element, keeping the size stable between invocations.
+     */
+    @Benchmark
+    public void codingAddAtPosition() {
+        codingList.add(elements[0], size >> 1);
+        codingList.remove(size);
+    }
+
+    @Benchmark
+    public void jdkAddAtPosition() {
+        jdkList.add(size >> 1, elements[0]);
+        jdkList.remove(size);
+    }
+
+    @Benchmark
+    public ArrayList<Object> codingAddAll() {
+        ArrayList<Object> list = new ArrayList<>();
+        list.addAll(source);
+
+        return list;
+    }
+
+    @Benchmark
+    public java.util.ArrayList<Object> jdkAddAll() {
+        java.util.ArrayList<Object> list = new java.util.ArrayList<>();
+        list.addAll(source);
+
+        return list;
+    }
+
+    /**
+     * Removes from the middle and appends, keeping the size stable between invocations.
+     */
+    @Benchmark
+    public void codingRemove() {
+        codingList.remove(size >> 1);
+        codingList.add(elements[0]);
+    }
+
+    @Benchmark
+    public void jdkRemove() {
+        jdkList.remove(size >> 1);
+        jdkList.add(elements[0]);
+    }
+
+    @Benchmark
+    public void codingGet(Blackhole blackhole) {
+        for (int position : positions) {
+            blackhole.consume(codingList.get(position));
+        }
+    }
+
+    @Benchmark
+    public void jdkGet(Blackhole blackhole) {
+        for (int position : positions) {
+            blackhole.consume(jdkList.get(position));
+        }
+    }
+
+    /**
+     * Refills a reused list and clears it, which is the typical per-batch reuse pattern.
+     */
+    @Benchmark
+    public void codingClear() {
+        codingList.addAll(source);
+        codingList.clear();
+    }
+
+    @Benchmark
+    public void jdkClear() {
+        jdkList.addAll(source);
+        jdkList.clear();
+    }
+
+    @Benchmark
+    public void codingIterate(Blackhole blackhole) {
+        for (Object element : codingList) {
+            blackhole.consume(element);
+        }
+    }
+
+    @Benchmark
+    public void jdkIterate(Blackhole blackhole) {
+        for (Object element : jdkList) {
+            blackhole.consume(element);
+        }
+    }
+
+    private Object createElement(int value) {
+        switch (elementType) {
+            case "Integer":
+                return value;
+            case "String":
+                return Integer.toHexString(value);
+            default:
+                return new Object();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ArrayListBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()
+        ).run();
+    }
+}
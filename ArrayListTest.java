@@ -4,13 +4,24 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
 import java.io.PrintStream;
 import java.lang.reflect.Field;
+import java.nio.channels.Channels;
 import java.security.InvalidParameterException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 
 public class ArrayListTest {
 
@@ -299,6 +310,299 @@ public class ArrayListTest {
         Assert.assertEquals("Test3", list.get(4));
     }
 
+    @Test
+    public void testAddInPositionWithResizing() {
+        for (int i = 0; i < 100; i++) {
+            list.add(String.valueOf(i), i / 2);
+        }
+
+        Assert.assertEquals(100, list.size());
+        Assert.assertTrue(getPrivateArrField(list).length >= 100);
+        Assert.assertEquals("1", list.get(0));
+        Assert.assertEquals("99", list.get(49));
+        Assert.assertEquals("98", list.get(50));
+        Assert.assertEquals("0", list.get(99));
+    }
+
+    @Test
+    public void testAddAllInPosition() {
+        list.addAll(List.of("1", "5"));
+        list.addAll(List.of("2", "3", "4"), 1);
+
+        Assert.assertEquals(5, list.size());
+        Assert.assertEquals(10, getPrivateArrField(list).length);
+        Assert.assertEquals("1", list.get(0));
+        Assert.assertEquals("4", list.get(3));
+        Assert.assertEquals("5", list.get(4));
+    }
+
+    @Test
+    public void testAddAllInPositionWithResizing() {
+        list.addAll(List.of("1", "2"));
+        list.addAll(List.of("a", "b", "c", "d", "e", "f", "g", "h"), 1);
+
+        Assert.assertEquals(10, list.size());
+        Assert.assertEquals(20, getPrivateArrField(list).length);
+        Assert.assertEquals("1", list.get(0));
+        Assert.assertEquals("a", list.get(1));
+        Assert.assertEquals("h", list.get(8));
+        Assert.assertEquals("2", list.get(9));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testAddAllInPositionOutOfRange() {
+        list.addAll(List.of("1"), 1);
+    }
+
+    @Test
+    public void testRemoveRange() {
+        list.addAll(List.of("1", "2", "3", "4", "5"));
+        list.removeRange(1, 3);
+
+        Assert.assertEquals(3, list.size());
+        Assert.assertEquals("1", list.get(0));
+        Assert.assertEquals("4", list.get(1));
+        Assert.assertEquals("5", list.get(2));
+        Assert.assertNull(list.get(3));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testRemoveRangeOutOfRange() {
+        list.addAll(List.of("1", "2"));
+        list.removeRange(1, 3);
+    }
+
+    @Test
+    public void testRemoveIf() {
+        list.addAll(List.of("1", "x", "x", "2", "3", "x", "4", "x"));
+
+        Assert.assertTrue(list.removeIf("x"::equals));
+        Assert.assertFalse(list.removeIf("x"::equals));
+
+        Assert.assertEquals(4, list.size());
+        Assert.assertEquals("1", list.get(0));
+        Assert.assertEquals("2", list.get(1));
+        Assert.assertEquals("3", list.get(2));
+        Assert.assertEquals("4", list.get(3));
+        Assert.assertNull(list.get(4));
+    }
+
+    @Test
+    public void testRemoveIfKeepsUntestedElementsWhenFilterThrows() {
+        list.addAll(List.of("x", "1", "x", "2", "stop", "x", "3"));
+
+        try {
+            list.removeIf(element -> {
+                if (element.equals("stop")) {
+                    throw new IllegalStateException();
+                }
+
+                return element.equals("x");
+            });
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            Assert.assertEquals(5, list.size());
+            Assert.assertEquals("1", list.get(0));
+            Assert.assertEquals("2", list.get(1));
+            Assert.assertEquals("stop", list.get(2));
+            Assert.assertEquals("x", list.get(3));
+            Assert.assertEquals("3", list.get(4));
+        }
+    }
+
+    @Test
+    public void testRetainAll() {
+        list.addAll(List.of("1", "2", "3", "4"));
+
+        Assert.assertTrue(list.retainAll(List.of("2", "4", "5")));
+
+        Assert.assertEquals(2, list.size());
+        Assert.assertEquals("2", list.get(0));
+        Assert.assertEquals("4", list.get(1));
+    }
+
+    @Test
+    public void testIndexOfContainsAndRemoveElement() {
+        list.addAll(List.of("a", "b", "c", "b"));
+
+        Assert.assertEquals(1, list.indexOf("b"));
+        Assert.assertEquals(-1, list.indexOf("d"));
+        Assert.assertTrue(list.contains("c"));
+        Assert.assertFalse(list.contains(null));
+
+        Assert.assertEquals("b", list.remove("b"));
+        Assert.assertNull(list.remove("d"));
+
+        Assert.assertEquals(3, list.size());
+        Assert.assertEquals(2, list.indexOf("b"));
+    }
+
+    @Test
+    public void testValueIndexAfterMiddleEdits() {
+        list.addAll(List.of("a", "b", "c"));
+        list.enableValueIndex();
+
+        list.add("x", 0);
+        list.add("b", 1);
+        list.remove(3);
+
+        // x, b, a, c
+        Assert.assertEquals(0, list.indexOf("x"));
+        Assert.assertEquals(1, list.indexOf("b"));
+        Assert.assertEquals(2, list.indexOf("a"));
+        Assert.assertEquals(3, list.indexOf("c"));
+
+        Assert.assertEquals("b", list.remove("b"));
+        Assert.assertFalse(list.contains("b"));
+
+        list.clear();
+
+        Assert.assertFalse(list.contains("a"));
+        Assert.assertEquals(-1, list.indexOf("a"));
+    }
+
+    @Test
+    public void testValueIndexMatchesLinearSearch() {
+        ArrayList<Integer> indexed = new ArrayList<>();
+        ArrayList<Integer> plain = new ArrayList<>();
+        indexed.enableValueIndex();
+
+        java.util.Random random = new java.util.Random(5);
+
+        for (int i = 0; i < 3_000; i++) {
+            Integer value = random.nextInt(50);
+            int operation = random.nextInt(6);
+
+            if (operation == 0 && !plain.isEmpty()) {
+                int position = random.nextInt(plain.size());
+                indexed.remove(position);
+                plain.remove(position);
+            } else if (operation == 1) {
+                int position = random.nextInt(plain.size() + 1);
+                indexed.add(value, position);
+                plain.add(value, position);
+            } else if (operation == 2) {
+                Assert.assertEquals(plain.remove(value), indexed.remove(value));
+            } else if (operation == 3) {
+                indexed.removeIf(element -> element == 7);
+                plain.removeIf(element -> element == 7);
+            } else {
+                indexed.add(value);
+                plain.add(value);
+            }
+
+            Integer probe = random.nextInt(50);
+
+            Assert.assertEquals(plain.indexOf(probe), indexed.indexOf(probe));
+            Assert.assertEquals(plain.contains(probe), indexed.contains(probe));
+        }
+    }
+
+    @Test
+    public void testStreams() {
+        ArrayList<Integer> numbers = new ArrayList<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            numbers.add(i);
+        }
+
+        Assert.assertEquals(49_995_000L, numbers.stream().mapToLong(Integer::longValue).sum());
+        Assert.assertEquals(49_995_000L, numbers.parallelStream().mapToLong(Integer::longValue).sum());
+        Assert.assertEquals(
+            numbers.stream().filter(element -> element % 3 == 0).collect(Collectors.toList()),
+            numbers.parallelStream().filter(element -> element % 3 == 0).collect(Collectors.toList())
+        );
+    }
+
+    @Test
+    public void testSpliteratorIsSizedAndSplitsEvenly() {
+        list.addAll(List.of("1", "2", "3", "4", "5", "6", "7", "8"));
+
+        Spliterator<String> spliterator = list.spliterator();
+
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        Assert.assertEquals(8, spliterator.getExactSizeIfKnown());
+
+        Spliterator<String> prefix = spliterator.trySplit();
+
+        Assert.assertEquals(4, prefix.getExactSizeIfKnown());
+        Assert.assertEquals(4, spliterator.getExactSizeIfKnown());
+        Assert.assertTrue(prefix.tryAdvance(element -> Assert.assertEquals("1", element)));
+    }
+
+    @Test
+    public void testForEachAndForEachIndexed() {
+        list.addAll(List.of("a", "b", "c", "d"));
+
+        StringBuilder all = new StringBuilder();
+        list.forEach(all::append);
+
+        StringBuilder range = new StringBuilder();
+        list.forEach(range::append, 1, 3);
+
+        StringBuilder indexed = new StringBuilder();
+        list.forEachIndexed((element, position) -> indexed.append(position).append(element), 2, 4);
+
+        Assert.assertEquals("abcd", all.toString());
+        Assert.assertEquals("bc", range.toString());
+        Assert.assertEquals("2c3d", indexed.toString());
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testForEachFailsFastOnModification() {
+        list.addAll(List.of("a", "b"));
+        list.forEach(element -> list.add("c"));
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testIteratorFailsFastOnModification() {
+        list.addAll(List.of("a", "b", "c"));
+
+        for (String element : list) {
+            list.remove(0);
+        }
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testIteratorBeyondLastElement() {
+        list.add("a");
+
+        Iterator<String> iterator = list.iterator();
+        iterator.next();
+        iterator.next();
+    }
+
+    @Test
+    public void testListIteratorSetRemoveAndAdd() {
+        list.addAll(List.of("a", "b", "c", "d"));
+        list.enableValueIndex();
+
+        ListIterator<String> iterator = list.listIterator();
+
+        while (iterator.hasNext()) {
+            String element = iterator.next();
+
+            if (element.equals("b")) {
+                iterator.remove();
+            } else if (element.equals("c")) {
+                iterator.set("C");
+                iterator.add("x");
+            }
+        }
+
+        Assert.assertEquals(4, list.size());
+        Assert.assertEquals("a", list.get(0));
+        Assert.assertEquals("C", list.get(1));
+        Assert.assertEquals("x", list.get(2));
+        Assert.assertEquals("d", list.get(3));
+        Assert.assertEquals(1, list.indexOf("C"));
+        Assert.assertFalse(list.contains("c"));
+
+        Assert.assertTrue(iterator.hasPrevious());
+        Assert.assertEquals("d", iterator.previous());
+        Assert.assertEquals(3, iterator.nextIndex());
+    }
+
     @Test
     public void testClear() {
         list.add("1");
@@ -333,6 +637,588 @@ public class ArrayListTest {
         System.setOut(System.out);
     }
 
+    @Test
+    public void testAddWithZeroInitialSize() {
+        list = new ArrayList<>(0);
+        list.add("1");
+        list.add("2", 0);
+
+        Assert.assertEquals(2, list.size());
+        Assert.assertEquals("2", list.get(0));
+        Assert.assertEquals("1", list.get(1));
+    }
+
+    @Test(expected = InvalidParameterException.class)
+    public void testInitWithNullGrowthPolicy() {
+        list = new ArrayList<>(10, null);
+    }
+
+    @Test
+    public void testOneAndAHalfGrowthPolicy() {
+        list = new ArrayList<>(10, GrowthPolicy.oneAndAHalf());
+
+        for (int i = 0; i < 10; i++) {
+            list.add(String.valueOf(i));
+        }
+
+        Assert.assertEquals(10, getPrivateArrField(list).length);
+
+        list.add("10");
+
+        Assert.assertEquals(15, getPrivateArrField(list).length);
+
+        list.addAll(Arrays.asList("11", "12", "13", "14", "15", "16", "17"));
+
+        Assert.assertEquals(23, getPrivateArrField(list).length);
+
+        for (int i = 0; i < 18; i++) {
+            Assert.assertEquals(String.valueOf(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void testIncrementalGrowthPolicy() {
+        list = new ArrayList<>(4, GrowthPolicy.incremental(4));
+
+        for (int i = 0; i < 9; i++) {
+            list.add(String.valueOf(i), i);
+        }
+
+        Assert.assertEquals(12, getPrivateArrField(list).length);
+        Assert.assertEquals(9, list.size());
+    }
+
+    @Test
+    public void testAdaptiveGrowthPolicy() {
+        GrowthPolicy policy = GrowthPolicy.adaptive();
+
+        for (int i = 0; i < 100; i++) {
+            list = new ArrayList<>(10, policy);
+
+            for (int j = 0; j < 1000; j++) {
+                list.add(String.valueOf(j));
+            }
+
+            list.clear();
+        }
+
+        list = new ArrayList<>(10, policy);
+
+        Assert.assertEquals(1000, getPrivateArrField(list).length);
+    }
+
+    @Test
+    public void testEnsureCapacity() {
+        list.ensureCapacity(1000);
+
+        Assert.assertEquals(1334, list.capacity());
+
+        for (int i = 0; i < 1000; i++) {
+            list.add(String.valueOf(i));
+        }
+
+        Assert.assertEquals(1334, list.capacity());
+
+        list.ensureCapacity(10);
+
+        Assert.assertEquals(1334, list.capacity());
+    }
+
+    @Test(expected = InvalidParameterException.class)
+    public void testEnsureNegativeCapacity() {
+        list.ensureCapacity(-1);
+    }
+
+    @Test
+    public void testTrimToSize() {
+        list.add("1");
+        list.add("2");
+        list.trimToSize();
+
+        Assert.assertEquals(2, list.capacity());
+        Assert.assertEquals("2", list.get(1));
+
+        list.add("3");
+
+        Assert.assertEquals(3, list.size());
+        Assert.assertEquals("3", list.get(2));
+
+        list.clear();
+        list.trimToSize();
+
+        Assert.assertEquals(0, list.capacity());
+
+        list.add("4");
+
+        Assert.assertEquals("4", list.get(0));
+    }
+
+    @Test
+    public void testClearReusesArray() {
+        for (int i = 0; i < 100; i++) {
+            list.add(String.valueOf(i));
+        }
+
+        String[] before = getPrivateArrField(list);
+        list.clear();
+        String[] after = getPrivateArrField(list);
+
+        Assert.assertEquals(before.length, after.length);
+        Assert.assertEquals(0, list.size());
+
+        for (String element : after) {
+            Assert.assertNull(element);
+        }
+    }
+
+    @Test
+    public void testShrinkPolicy() {
+        list.setShrinkPolicy(ShrinkPolicy.hysteresis());
+
+        for (int i = 0; i < 1000; i++) {
+            list.add(String.valueOf(i));
+        }
+
+        Assert.assertEquals(2560, list.capacity());
+
+        // Occupancy between 25% and 75% never resizes
+        while (list.size() > 640) {
+            list.remove(list.size() - 1);
+        }
+
+        Assert.assertEquals(2560, list.capacity());
+
+        list.remove(0);
+
+        Assert.assertEquals(639, list.size());
+        Assert.assertEquals(1704, list.capacity());
+        Assert.assertEquals("1", list.get(0));
+        Assert.assertEquals("639", list.get(638));
+
+        list.removeRange(0, 600);
+
+        Assert.assertEquals(39, list.size());
+        Assert.assertEquals(104, list.capacity());
+
+        list.clear();
+
+        Assert.assertEquals(10, list.capacity());
+
+        list.setShrinkPolicy(null);
+
+        for (int i = 0; i < 100; i++) {
+            list.add(String.valueOf(i));
+        }
+
+        list.clear();
+
+        Assert.assertEquals(160, list.capacity());
+    }
+
+    @Test
+    public void testPooledListReusesArrays() {
+        ArrayPool pool = new ArrayPool(4, 0);
+        Object[] arr = new Object[16];
+        pool.release(arr, 0);
+
+        try (ArrayList<String> pooled = new ArrayList<>(10, GrowthPolicy.doubling(), pool)) {
+            pooled.add("a");
+
+            Assert.assertEquals(16, pooled.capacity());
+            Assert.assertEquals("a", arr[0]);
+
+            for (int i = 0; i < 100; i++) {
+                pooled.add(String.valueOf(i));
+            }
+
+            // Replaced by a resize, cleared and pooled again
+            Assert.assertNull(arr[0]);
+            Assert.assertEquals(256, pooled.capacity());
+            Assert.assertEquals("a", pooled.get(0));
+            Assert.assertEquals("99", pooled.get(100));
+            Assert.assertSame(arr, pool.acquire(16));
+        }
+
+        Assert.assertEquals(256, pool.acquire(256).length);
+    }
+
+    @Test
+    public void testRelease() {
+        for (int i = 0; i < 100; i++) {
+            list.add(String.valueOf(i));
+        }
+
+        list.release();
+
+        Assert.assertEquals(0, list.size());
+        Assert.assertEquals(0, list.capacity());
+
+        list.add("1");
+
+        Assert.assertEquals("1", list.get(0));
+        Assert.assertEquals(1, list.size());
+    }
+
+    @Test
+    public void testSnapshot() {
+        list.add("a");
+        list.add("b");
+        list.add("c");
+
+        ImmutableList<String> snapshot = list.snapshot();
+        String[] shared = getPrivateArrField(list);
+
+        // Appending keeps sharing the array
+        list.add("d");
+
+        Assert.assertEquals(3, snapshot.size());
+        Assert.assertEquals("[a, b, c]", snapshot.toString());
+
+        list.remove(0);
+        list.add("x", 0);
+        list.clear();
+
+        Assert.assertEquals(3, snapshot.size());
+        Assert.assertEquals("a", snapshot.get(0));
+        Assert.assertEquals("b", snapshot.get(1));
+        Assert.assertEquals("c", snapshot.get(2));
+        Assert.assertEquals(shared.length, getPrivateArrField(list).length);
+        Assert.assertEquals(2, snapshot.indexOf("c"));
+        Assert.assertEquals(Arrays.asList("a", "b", "c"), snapshot.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testSnapshotIsCopiedOnlyOnce() {
+        for (int i = 0; i < 10; i++) {
+            list.add(String.valueOf(i));
+        }
+
+        ImmutableList<String> first = list.snapshot();
+        list.removeRange(0, 5);
+
+        ImmutableList<String> second = list.snapshot();
+        list.removeIf(element -> element.equals("9"));
+        list.listIterator().next();
+
+        ListIterator<String> iterator = list.listIterator();
+        iterator.next();
+        iterator.set("x");
+
+        Assert.assertEquals(10, first.size());
+        Assert.assertEquals("0", first.get(0));
+        Assert.assertEquals("[5, 6, 7, 8, 9]", second.toString());
+        Assert.assertEquals("x", list.get(0));
+        Assert.assertEquals(4, list.size());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSnapshotIsImmutable() {
+        list.add("a");
+        list.snapshot().add("b");
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testSnapshotGetOutOfRange() {
+        list.add("a");
+        list.snapshot().get(1);
+    }
+
+    @Test
+    public void testWriteToAndReadFrom() throws IOException {
+        ArrayList<Integer> integers = new ArrayList<>();
+
+        for (int i = 0; i < 40_000; i++) {
+            integers.add(i - 20_000);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        integers.writeTo(Channels.newChannel(out), Codec.INT);
+
+        Assert.assertEquals(16 + 40_000 * Integer.BYTES, out.size());
+
+        ArrayList<Integer> read = ArrayList.readFrom(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), Codec.INT);
+
+        Assert.assertEquals(40_000, read.size());
+        Assert.assertEquals(GrowthPolicy.doubling().minimumCapacity(40_000), read.capacity());
+
+        for (int i = 0; i < 40_000; i++) {
+            Assert.assertEquals(integers.get(i), read.get(i));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadFromDifferentWidth() throws IOException {
+        ArrayList<Integer> integers = new ArrayList<>();
+        integers.add(1);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        integers.writeTo(Channels.newChannel(out), Codec.INT);
+
+        ArrayList.readFrom(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())), Codec.LONG);
+    }
+
+    @Test(expected = EOFException.class)
+    public void testReadFromTruncated() throws IOException {
+        ArrayList<Integer> integers = new ArrayList<>();
+        integers.add(1);
+        integers.add(2);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        integers.writeTo(Channels.newChannel(out), Codec.INT);
+
+        byte[] bytes = Arrays.copyOf(out.toByteArray(), out.size() - 1);
+        ArrayList.readFrom(Channels.newChannel(new ByteArrayInputStream(bytes)), Codec.INT);
+    }
+
+    @Test
+    public void testSort() {
+        list.addAll(Arrays.asList("d", "b", "a", "c"));
+        list.sort(null);
+
+        Assert.assertEquals(Arrays.asList("a", "b", "c", "d"), list.stream().collect(Collectors.toList()));
+
+        list.sort(Comparator.reverseOrder());
+
+        Assert.assertEquals(Arrays.asList("d", "c", "b", "a"), list.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testSortIsStable() {
+        list.addAll(Arrays.asList("bb", "a", "cc", "b", "aa"));
+        list.sort(Comparator.comparingInt(String::length));
+
+        Assert.assertEquals(Arrays.asList("a", "b", "bb", "cc", "aa"), list.stream().collect(Collectors.toList()));
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testSortInvalidatesIterators() {
+        list.addAll(Arrays.asList("b", "a"));
+        Iterator<String> iterator = list.iterator();
+        list.sort(null);
+
+        iterator.next();
+    }
+
+    @Test
+    public void testParallelSort() {
+        ArrayList<Integer> numbers = new ArrayList<>();
+        java.util.Random random = new java.util.Random(18);
+
+        for (int i = 0; i < 100_000; i++) {
+            numbers.add(random.nextInt());
+        }
+
+        int[] expected = new int[numbers.size()];
+
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = numbers.get(i);
+        }
+
+        Arrays.sort(expected);
+        numbers.parallelSort(null);
+
+        for (int i = 0; i < expected.length; i++) {
+            Assert.assertEquals(expected[i], (int) numbers.get(i));
+        }
+    }
+
+    @Test
+    public void testBinarySearch() {
+        list.addAll(Arrays.asList("a", "c", "e"));
+
+        Assert.assertEquals(1, list.binarySearch("c", null));
+        Assert.assertEquals(-2, list.binarySearch("b", null));
+        Assert.assertEquals(-4, list.binarySearch("f", null));
+    }
+
+    @Test
+    public void testSortedMode() {
+        list.addAll(Arrays.asList("d", "b"));
+        list.enableSortedMode(null);
+        list.add("c");
+        list.add("a");
+        list.add("e");
+        list.addAll(Arrays.asList("f", "a"));
+
+        Assert.assertEquals(Arrays.asList("a", "a", "b", "c", "d", "e", "f"), list.stream().collect(Collectors.toList()));
+        Assert.assertEquals(3, list.indexOf("c"));
+        Assert.assertEquals(0, list.indexOf("a"));
+        Assert.assertEquals(-1, list.indexOf("g"));
+        Assert.assertEquals("d", list.remove("d"));
+        Assert.assertEquals(Arrays.asList("a", "a", "b", "c", "e", "f"), list.stream().collect(Collectors.toList()));
+
+        list.disableSortedMode();
+        list.add("a");
+
+        Assert.assertEquals(Arrays.asList("a", "a", "b", "c", "e", "f", "a"), list.stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testSortedModeFindsEqualElementsComparingEqual() {
+        list.enableSortedMode(String.CASE_INSENSITIVE_ORDER);
+        list.add("B");
+        list.add("a");
+        list.add("b");
+
+        Assert.assertEquals(Arrays.asList("a", "B", "b"), list.stream().collect(Collectors.toList()));
+        Assert.assertEquals(2, list.indexOf("b"));
+        Assert.assertEquals(-1, list.indexOf("A"));
+    }
+
+    @Test
+    public void testSortedAddAllKeepsSnapshot() {
+        list.addAll(Arrays.asList("e", "c", "g"));
+        list.enableSortedMode(null);
+
+        ImmutableList<String> snapshot = list.snapshot();
+        list.addAll(Arrays.asList("a", "b"));
+
+        Assert.assertEquals(Arrays.asList("a", "b", "c", "e", "g"), list.stream().collect(Collectors.toList()));
+        Assert.assertEquals(Arrays.asList("c", "e", "g"), snapshot.stream().collect(Collectors.toList()));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSortedModeRejectsPositionalAdd() {
+        list.enableSortedMode(null);
+        list.add("a", 0);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSortedModeRejectsIteratorSet() {
+        list.add("a");
+        list.enableSortedMode(null);
+
+        ListIterator<String> iterator = list.listIterator();
+        iterator.next();
+        iterator.set("b");
+    }
+
+    @Test
+    public void testSortedModeRejectedIteratorAddKeepsCursor() {
+        list.add("a");
+        list.enableSortedMode(null);
+
+        ListIterator<String> iterator = list.listIterator();
+
+        try {
+            iterator.add("b");
+            Assert.fail();
+        } catch (UnsupportedOperationException expected) {
+        }
+
+        Assert.assertEquals(0, iterator.nextIndex());
+        Assert.assertEquals("a", iterator.next());
+    }
+
+    @Test
+    public void testSet() {
+        list.addAll(Arrays.asList("a", "b", "c"));
+
+        Assert.assertEquals("b", list.set("x", 1));
+        Assert.assertEquals("x", list.get(1));
+        Assert.assertEquals(3, list.size());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testSetOutOfRange() {
+        list.add("a");
+        list.set("b", 1);
+    }
+
+    @Test
+    public void testBulkTransformsSequentialAndParallel() {
+        for (int threshold : new int[]{Integer.MAX_VALUE, 1}) {
+            ArrayList<Integer> numbers = new ArrayList<>();
+            numbers.setParallelThreshold(threshold);
+
+            for (int i = 0; i < 100_000; i++) {
+                numbers.add(i);
+            }
+
+            numbers.replaceAll(element -> element * 2);
+
+            Assert.assertEquals(Integer.valueOf(199_998), numbers.get(99_999));
+
+            ArrayList<String> mapped = numbers.parallelMap(element -> "#" + element);
+
+            Assert.assertEquals(100_000, mapped.size());
+            Assert.assertEquals(100_000, mapped.capacity());
+            Assert.assertEquals("#20", mapped.get(10));
+
+            numbers.setAll(position -> -position);
+
+            Assert.assertEquals(Integer.valueOf(-12_345), numbers.get(12_345));
+
+            numbers.fill(7);
+
+            Assert.assertEquals(100_000, numbers.stream().filter(element -> element == 7).count());
+        }
+    }
+
+    @Test
+    public void testBulkTransformsKeepSnapshotAndValueIndex() {
+        list.setParallelThreshold(1);
+        list.addAll(Arrays.asList("a", "b", "c"));
+        list.enableValueIndex();
+
+        ImmutableList<String> snapshot = list.snapshot();
+        list.replaceAll(String::toUpperCase);
+
+        Assert.assertEquals("a", snapshot.get(0));
+        Assert.assertEquals(1, list.indexOf("B"));
+        Assert.assertEquals(-1, list.indexOf("b"));
+
+        list.fill("z");
+
+        Assert.assertEquals(0, list.indexOf("z"));
+        Assert.assertEquals("c", snapshot.get(2));
+    }
+
+    @Test
+    public void testBulkTransformsFailFast() {
+        list.addAll(Arrays.asList("a", "b", "c"));
+
+        Iterator<String> iterator = list.iterator();
+        iterator.next();
+        list.replaceAll(String::toUpperCase);
+
+        try {
+            iterator.next();
+            Assert.fail();
+        } catch (ConcurrentModificationException expected) {
+        }
+
+        ListView<String> view = list.subList(0, 2);
+        list.setAll(position -> "x" + position);
+
+        try {
+            view.get(0);
+            Assert.fail();
+        } catch (ConcurrentModificationException expected) {
+        }
+
+        ListIterator<String> listIterator = list.listIterator();
+        list.fill("z");
+
+        try {
+            listIterator.next();
+            Assert.fail();
+        } catch (ConcurrentModificationException expected) {
+        }
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testReplaceAllInSortedMode() {
+        list.add("a");
+        list.enableSortedMode(null);
+        list.replaceAll(String::toUpperCase);
+    }
+
+    @Test(expected = InvalidParameterException.class)
+    public void testParallelThresholdLessThanOne() {
+        list.setParallelThreshold(0);
+    }
+
     private String[] getPrivateArrField(Object object) {
         Field arrField;
         try {
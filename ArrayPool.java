@@ -0,0 +1,191 @@
+package Coding.List;
+
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Recycles backing arrays across list instances, so that short-lived lists don't allocate a new array
+ * on every construction and resize.
+ *
+ * <p>
+ *     <i>
+ *         Arrays are bucketed by size class - class <code>k</code> holds arrays with lengths in
+ *         <code>[2^k, 2^(k+1))</code>. Every thread keeps a few arrays per class for itself and passes
+ *         the rest to a shared overflow, so the common acquire/release pair on one thread doesn't synchronize.
+ *         Arrays of <code>2^(MAX_CLASS + 1)</code> elements or more are never pooled.
+ *     </i>
+ * </p>
+ */
+public final class ArrayPool {
+
+    /**
+     * The biggest pooled size class.
+     */
+    private final static int MAX_CLASS = 20;
+
+    private final static Object[] EMPTY = new Object[0];
+
+    private final static ArrayPool SHARED = new ArrayPool(4, 64);
+
+    /**
+     * The number of arrays each thread keeps per size class.
+     */
+    private final int localCapacity;
+
+    /**
+     * The number of arrays the shared overflow keeps per size class.
+     */
+    private final int sharedCapacity;
+
+    private final ThreadLocal<LocalCache> local;
+
+    private final ConcurrentLinkedQueue<Object[]>[] shared;
+
+    private final AtomicInteger[] sharedCounts;
+
+    /**
+     * Create a pool.
+     *
+     * @param localCapacity the number of arrays each thread keeps per size class.
+     * @param sharedCapacity the number of arrays the shared overflow keeps per size class.
+     * @throws InvalidParameterException when any of the capacities is less than 0.
+     */
+    public ArrayPool(int localCapacity, int sharedCapacity) {
+        if (localCapacity < 0 || sharedCapacity < 0) {
+            throw new InvalidParameterException("Capacity cannot be less than 0.");
+        }
+
+        this.localCapacity = localCapacity;
+        this.sharedCapacity = sharedCapacity;
+        this.local = ThreadLocal.withInitial(() -> new LocalCache(localCapacity));
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        ConcurrentLinkedQueue<Object[]>[] shared = new ConcurrentLinkedQueue[MAX_CLASS + 1];
+        this.shared = shared;
+        this.sharedCounts = new AtomicInteger[MAX_CLASS + 1];
+
+        for (int i = 0; i <= MAX_CLASS; i++) {
+            shared[i] = new ConcurrentLinkedQueue<>();
+            sharedCounts[i] = new AtomicInteger();
+        }
+    }
+
+    /**
+     * The pool shared by all lists which don't provide their own.
+     *
+     * @return the shared pool.
+     */
+    public static ArrayPool shared() {
+        return SHARED;
+    }
+
+    /**
+     * Take an array from the pool, or allocate one if there's none big enough.
+     * All positions of the array are NULL.
+     *
+     * @param minLength the minimum length of the array.
+     * @return the array, with a length of at least the minimum and possibly bigger.
+     * @throws InvalidParameterException when the minLength is less than 0.
+     */
+    public Object[] acquire(int minLength) {
+        if (minLength < 0) {
+            throw new InvalidParameterException("Length cannot be less than 0.");
+        }
+
+        if (minLength == 0) {
+            return EMPTY;
+        }
+
+        int sizeClass = 32 - Integer.numberOfLeadingZeros(minLength - 1);
+
+        if (sizeClass > MAX_CLASS) {
+            return new Object[minLength];
+        }
+
+        Object[] arr = local.get().pop(sizeClass);
+
+        if (arr == null) {
+            arr = shared[sizeClass].poll();
+
+            if (arr != null) {
+                sharedCounts[sizeClass].decrementAndGet();
+            }
+        }
+
+        return arr != null ? arr : new Object[1 << sizeClass];
+    }
+
+    /**
+     * Give an array back to the pool, after which it must not be used anymore.
+     *
+     * @param arr the array.
+     * @param used the number of positions from the start which may hold elements, and will be cleared.
+     */
+    public void release(Object[] arr, int used) {
+        if (arr == null || arr.length == 0) {
+            return;
+        }
+
+        int sizeClass = 31 - Integer.numberOfLeadingZeros(arr.length);
+
+        if (sizeClass > MAX_CLASS) {
+            return;
+        }
+
+        Arrays.fill(arr, 0, Math.min(used, arr.length), null);
+
+        if (local.get().push(sizeClass, arr)) {
+            return;
+        }
+
+        if (sharedCounts[sizeClass].incrementAndGet() <= sharedCapacity) {
+            shared[sizeClass].offer(arr);
+        } else {
+            sharedCounts[sizeClass].decrementAndGet();
+        }
+    }
+
+    /**
+     * The arrays kept by a single thread, a bounded stack per size class.
+     * It doesn't reference the pool, so that the threads which used a pool don't keep it reachable.
+     */
+    private static final class LocalCache {
+
+        private final Object[][][] arrays = new Object[MAX_CLASS + 1][][];
+
+        private final int[] counts = new int[MAX_CLASS + 1];
+
+        private final int localCapacity;
+
+        private LocalCache(int localCapacity) {
+            this.localCapacity = localCapacity;
+        }
+
+        private Object[] pop(int sizeClass) {
+            if (counts[sizeClass] == 0) {
+                return null;
+            }
+
+            Object[][] stack = arrays[sizeClass];
+            Object[] arr = stack[--counts[sizeClass]];
+            stack[counts[sizeClass]] = null;
+
+            return arr;
+        }
+
+        private boolean push(int sizeClass, Object[] arr) {
+            if (counts[sizeClass] == localCapacity) {
+                return false;
+            }
+
+            if (arrays[sizeClass] == null) {
+                arrays[sizeClass] = new Object[localCapacity][];
+            }
+
+            arrays[sizeClass][counts[sizeClass]++] = arr;
+
+            return true;
+        }
+    }
+}
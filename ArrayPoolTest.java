@@ -0,0 +1,107 @@
+package Coding.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.security.InvalidParameterException;
+
+public class ArrayPoolTest {
+
+    private ArrayPool pool;
+
+    @Before
+    public void before() {
+        pool = new ArrayPool(2, 2);
+    }
+
+    @Test
+    public void testAcquireRoundsUpToSizeClass() {
+        Assert.assertEquals(0, pool.acquire(0).length);
+        Assert.assertEquals(1, pool.acquire(1).length);
+        Assert.assertEquals(16, pool.acquire(10).length);
+        Assert.assertEquals(16, pool.acquire(16).length);
+        Assert.assertEquals(32, pool.acquire(17).length);
+    }
+
+    @Test(expected = InvalidParameterException.class)
+    public void testAcquireNegativeLength() {
+        pool.acquire(-1);
+    }
+
+    @Test
+    public void testReleasedArrayIsReusedAndCleared() {
+        Object[] arr = pool.acquire(10);
+        arr[0] = "a";
+        arr[5] = "b";
+
+        pool.release(arr, 6);
+
+        Object[] reused = pool.acquire(9);
+
+        Assert.assertSame(arr, reused);
+
+        for (Object element : reused) {
+            Assert.assertNull(element);
+        }
+    }
+
+    @Test
+    public void testArrayServesOnlySmallerClasses() {
+        Object[] arr = new Object[20];
+        pool.release(arr, 0);
+
+        Assert.assertNotSame(arr, pool.acquire(17));
+        Assert.assertSame(arr, pool.acquire(16));
+    }
+
+    @Test
+    public void testSharedOverflow() throws InterruptedException {
+        Object[][] arrays = new Object[4][];
+
+        for (int i = 0; i < arrays.length; i++) {
+            arrays[i] = new Object[8];
+            pool.release(arrays[i], 0);
+        }
+
+        // Two arrays are kept by this thread, two by the shared overflow
+        Object[][] acquired = new Object[3][];
+        Thread thread = new Thread(() -> {
+            for (int i = 0; i < acquired.length; i++) {
+                acquired[i] = pool.acquire(8);
+            }
+        });
+        thread.start();
+        thread.join();
+
+        Assert.assertSame(arrays[2], acquired[0]);
+        Assert.assertSame(arrays[3], acquired[1]);
+        Assert.assertEquals(8, acquired[2].length);
+        Assert.assertNotSame(arrays[0], acquired[2]);
+        Assert.assertNotSame(arrays[1], acquired[2]);
+    }
+
+    @Test
+    public void testHugeArraysAreNotPooled() {
+        Object[] arr = new Object[(1 << 21) + 1];
+        pool.release(arr, 0);
+
+        Assert.assertNotSame(arr, pool.acquire(1 << 21));
+    }
+
+    @Test
+    public void testThreadDoesNotKeepPoolReachable() throws InterruptedException {
+        pool.release(pool.acquire(10), 0);
+
+        WeakReference<ArrayPool> reference = new WeakReference<>(pool);
+        pool = null;
+
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        Assert.assertNull(reference.get());
+    }
+}
@@ -0,0 +1,79 @@
+package Coding.List;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over a range of a backing array, splitting it in two equal halves, so that parallel streams
+ * know the exact size of every part and can spread the work evenly across the fork-join pool.
+ *
+ * @param <T>
+ */
+final class ArraySpliterator<T> implements Spliterator<T> {
+
+    private final Object[] arr;
+
+    /**
+     * The position of the next element.
+     */
+    private int origin;
+
+    /**
+     * The position after the last element.
+     */
+    private final int fence;
+
+    ArraySpliterator(Object[] arr, int origin, int fence) {
+        this.arr = arr;
+        this.origin = origin;
+        this.fence = fence;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        int mid = (origin + fence) >>> 1;
+
+        if (mid <= origin) {
+            return null;
+        }
+
+        ArraySpliterator<T> prefix = new ArraySpliterator<>(arr, origin, mid);
+        origin = mid;
+
+        return prefix;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (origin >= fence) {
+            return false;
+        }
+
+        action.accept((T) arr[origin++]);
+
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEachRemaining(Consumer<? super T> action) {
+        Object[] arr = this.arr;
+
+        for (int i = origin, fence = this.fence; i < fence; i++) {
+            action.accept((T) arr[i]);
+        }
+
+        origin = fence;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - origin;
+    }
+
+    @Override
+    public int characteristics() {
+        return SIZED | SUBSIZED | ORDERED;
+    }
+}
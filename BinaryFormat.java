@@ -0,0 +1,162 @@
+package Coding.List;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * The binary format lists are written to channels with, shared by all implementations.
+ *
+ * <p>
+ *     <i>
+ *         A 16 bytes little-endian header - magic number, version, element type, element width and count -
+ *         followed by the elements, each encoded in <code>width</code> bytes in little-endian order.
+ *         The count lets the reader allocate the whole list at once.
+ *     </i>
+ * </p>
+ */
+final class BinaryFormat {
+
+    final static int MAGIC = 0x4C495354;
+
+    final static short VERSION = 1;
+
+    final static int HEADER_SIZE = 16;
+
+    /**
+     * The elements are encoded by a {@link Codec}.
+     */
+    final static short OBJECT = 0;
+
+    final static short INT = 1;
+
+    final static short LONG = 2;
+
+    final static short DOUBLE = 3;
+
+    /**
+     * The size of the buffers the elements are streamed through.
+     */
+    final static int CHUNK_SIZE = 64 * 1024;
+
+    private BinaryFormat() {
+    }
+
+    /**
+     * Create the header, ready to be written.
+     *
+     * @param type the element type.
+     * @param width the number of bytes of every element.
+     * @param count the number of elements.
+     * @return the header buffer.
+     */
+    static ByteBuffer header(short type, int width, int count) {
+        return ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN)
+            .putInt(MAGIC)
+            .putShort(VERSION)
+            .putShort(type)
+            .putInt(width)
+            .putInt(count)
+            .flip();
+    }
+
+    /**
+     * Read and validate the header.
+     *
+     * @param channel the channel positioned at the header.
+     * @param type the expected element type.
+     * @param width the expected number of bytes of every element.
+     * @return the number of elements which follow.
+     * @throws IOException when the header is invalid or the channel ends before it.
+     */
+    static int readHeader(ReadableByteChannel channel, short type, int width) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, header);
+        header.flip();
+
+        if (header.getInt() != MAGIC) {
+            throw new IOException("Not a serialized list.");
+        }
+
+        if (header.getShort() != VERSION) {
+            throw new IOException("Unsupported serialized list version.");
+        }
+
+        if (header.getShort() != type || header.getInt() != width) {
+            throw new IOException("The list was written with a different element type.");
+        }
+
+        int count = header.getInt();
+
+        if (count < 0) {
+            throw new IOException("Corrupted serialized list header.");
+        }
+
+        return count;
+    }
+
+    /**
+     * Allocate a buffer the elements are streamed through, holding a whole number of elements.
+     *
+     * @param width the number of bytes of every element.
+     * @return the buffer.
+     */
+    static ByteBuffer chunk(int width) {
+        return ByteBuffer.allocateDirect(Math.max(CHUNK_SIZE / width, 1) * width).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Write all remaining bytes of the buffers, with gathering writes when the channel supports them.
+     *
+     * @param channel the destination.
+     * @param buffers the buffers, written in order.
+     * @throws IOException when writing fails.
+     */
+    static void writeFully(WritableByteChannel channel, ByteBuffer... buffers) throws IOException {
+        if (channel instanceof GatheringByteChannel) {
+            GatheringByteChannel gathering = (GatheringByteChannel) channel;
+
+            while (hasRemaining(buffers)) {
+                gathering.write(buffers);
+            }
+
+            return;
+        }
+
+        for (ByteBuffer buffer : buffers) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    private static boolean hasRemaining(ByteBuffer[] buffers) {
+        for (ByteBuffer buffer : buffers) {
+            if (buffer.hasRemaining()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Fill the remaining space of the buffer.
+     *
+     * @param channel the source.
+     * @param buffer the destination.
+     * @throws EOFException when the channel ends first.
+     * @throws IOException when reading fails.
+     */
+    static void readFully(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new EOFException("Unexpected end of serialized list.");
+            }
+        }
+    }
+}
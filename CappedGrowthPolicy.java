@@ -0,0 +1,53 @@
+package Coding.List;
+
+import java.security.InvalidParameterException;
+
+/**
+ * Follows another policy, but limits a single growth step, so that huge lists don't double their footprint at once.
+ */
+final class CappedGrowthPolicy implements GrowthPolicy {
+
+    private final GrowthPolicy policy;
+
+    private final int maxIncrement;
+
+    CappedGrowthPolicy(GrowthPolicy policy, int maxIncrement) {
+        if (policy == null) {
+            throw new InvalidParameterException("NULL cannot be provided as policy.");
+        }
+
+        if (maxIncrement <= 0) {
+            throw new InvalidParameterException("Maximum increment should be bigger than 0.");
+        }
+
+        this.policy = policy;
+        this.maxIncrement = maxIncrement;
+    }
+
+    @Override
+    public int limit(int capacity) {
+        return policy.limit(capacity);
+    }
+
+    @Override
+    public int minimumCapacity(int required) {
+        return policy.minimumCapacity(required);
+    }
+
+    @Override
+    public int grow(int capacity, int required) {
+        long capped = Math.min(policy.grow(capacity, required), (long) capacity + maxIncrement);
+
+        return (int) Math.max(capped, policy.minimumCapacity(required));
+    }
+
+    @Override
+    public int initialCapacity(int requested) {
+        return policy.initialCapacity(requested);
+    }
+
+    @Override
+    public void record(int size) {
+        policy.record(size);
+    }
+}
@@ -0,0 +1,78 @@
+package Coding.List;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Fixed-width binary representation of an element, used by the lists that keep their content outside the heap.
+ *
+ * @param <T>
+ */
+public interface Codec<T> {
+
+    Codec<Integer> INT = new Codec<>() {
+        public int width() {
+            return Integer.BYTES;
+        }
+
+        public void write(ByteBuffer buffer, int offset, Integer element) {
+            buffer.putInt(offset, element);
+        }
+
+        public Integer read(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+    };
+
+    Codec<Long> LONG = new Codec<>() {
+        public int width() {
+            return Long.BYTES;
+        }
+
+        public void write(ByteBuffer buffer, int offset, Long element) {
+            buffer.putLong(offset, element);
+        }
+
+        public Long read(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+    };
+
+    Codec<Double> DOUBLE = new Codec<>() {
+        public int width() {
+            return Double.BYTES;
+        }
+
+        public void write(ByteBuffer buffer, int offset, Double element) {
+            buffer.putDouble(offset, element);
+        }
+
+        public Double read(ByteBuffer buffer, int offset) {
+            return buffer.getDouble(offset);
+        }
+    };
+
+    /**
+     * The number of bytes every element occupies.
+     *
+     * @return the width in bytes, always bigger than 0.
+     */
+    int width();
+
+    /**
+     * Write the element at the provided absolute offset, without changing the position of the buffer.
+     *
+     * @param buffer the destination.
+     * @param offset the absolute offset of the first byte.
+     * @param element the element to be written.
+     */
+    void write(ByteBuffer buffer, int offset, T element);
+
+    /**
+     * Read an element from the provided absolute offset, without changing the position of the buffer.
+     *
+     * @param buffer the source.
+     * @param offset the absolute offset of the first byte.
+     * @return the decoded element.
+     */
+    T read(ByteBuffer buffer, int offset);
+}
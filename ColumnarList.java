@@ -0,0 +1,492 @@
+package Coding.List;
+
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Single-threaded list of records stored as a struct of arrays - one primitive array per column of the schema.
+ *
+ * <p>
+ *     <i>
+ *         The records are decomposed when they are added and not kept, so there's no object header or reference
+ *         per element, and a scan over one column walks a single contiguous array instead of chasing a pointer
+ *         per record. All columns share the capacity and grow together.
+ *         <code>get</code> creates a new record from the columns every time - the column scans
+ *         ({@link #ints(String)}, {@link #longs(String)}, {@link #doubles(String)}) and {@link #forEachRow(Consumer)}
+ *         read the values without creating any.
+ *     </i>
+ * </p>
+ *
+ * @param <T>
+ */
+public class ColumnarList<T> implements List<T> {
+
+    /**
+     * Initial array size, when such is not specified.
+     */
+    private final static int DEFAULT_SIZE = 10;
+
+    private final ColumnarSchema<T> schema;
+
+    /**
+     * Decides the capacity of the columns, doubling it at 75% occupancy by default.
+     */
+    private final GrowthPolicy growthPolicy;
+
+    /**
+     * The number of records the columns hold before they have to grow, precomputed by the growth policy.
+     */
+    private int threshold;
+
+    /**
+     * The number of records.
+     */
+    private int size = 0;
+
+    /**
+     * The length of every column.
+     */
+    private int capacity;
+
+    /**
+     * An <code>int[]</code>, <code>long[]</code> or <code>double[]</code> per column of the schema.
+     */
+    private final Object[] data;
+
+    /**
+     * Constructor initializing the columns with default size.
+     *
+     * @param schema the columns the records are decomposed into.
+     * @throws InvalidParameterException if the schema is NULL
+     * @see #DEFAULT_SIZE
+     */
+    public ColumnarList(ColumnarSchema<T> schema) {
+        this(schema, DEFAULT_SIZE, GrowthPolicy.doubling());
+    }
+
+    /**
+     * Constructor allowing users to customize the initial size of the columns, and how they grow afterwards.
+     *
+     * @param schema the columns the records are decomposed into.
+     * @param initialSize represents the desired size, which an adaptive policy may enlarge.
+     * @param growthPolicy decides when and how much the columns grow.
+     * @throws InvalidParameterException when the initialSize is less than 0, or the schema or policy is NULL.
+     */
+    public ColumnarList(ColumnarSchema<T> schema, int initialSize, GrowthPolicy growthPolicy) {
+        if (schema == null) {
+            throw new InvalidParameterException("NULL cannot be passed as schema argument.");
+        }
+
+        if (initialSize < 0) {
+            throw new InvalidParameterException("Size cannot be less than 0.");
+        }
+
+        if (growthPolicy == null) {
+            throw new InvalidParameterException("NULL cannot be provided as growth policy.");
+        }
+
+        this.schema = schema;
+        this.growthPolicy = growthPolicy;
+        data = new Object[schema.columns()];
+        resize(growthPolicy.initialCapacity(initialSize));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * The columns the records are decomposed into.
+     *
+     * @return the schema.
+     */
+    public ColumnarSchema<T> schema() {
+        return schema;
+    }
+
+    /**
+     * Decompose a record into the columns, allocating more space if necessary.
+     * If reading the record throws, the list is left unchanged.
+     *
+     * @param element represents the record that will be added in the list.
+     */
+    public void add(T element) {
+        if (size >= threshold) {
+            grow(size + 1);
+        }
+
+        write(element, size);
+        size++;
+    }
+
+    /**
+     * Decompose a record into the columns at a specified position, shifting all records after it with 1 position
+     * to the right in every column.
+     *
+     * <p>
+     *     <i>
+     *         The record is decomposed into the free slot after the last record before anything is shifted,
+     *         so if reading it throws, the list is left unchanged.
+     *     </i>
+     * </p>
+     *
+     * @param element represents the record that will be added in the list.
+     * @param position is the specified index at which it will be added.
+     * @throws IndexOutOfBoundsException when the position to be added is out of bounds.
+     */
+    public void add(T element, int position) {
+        if (position < 0 || position > size) {
+            throw new IndexOutOfBoundsException("Index out of range.");
+        }
+
+        if (size >= threshold) {
+            grow(size + 1);
+        }
+
+        write(element, size);
+
+        for (int i = 0; i < data.length; i++) {
+            switch (schema.type(i)) {
+                case INT -> {
+                    int[] column = (int[]) data[i];
+                    int value = column[size];
+                    System.arraycopy(column, position, column, position + 1, size - position);
+                    column[position] = value;
+                }
+                case LONG -> {
+                    long[] column = (long[]) data[i];
+                    long value = column[size];
+                    System.arraycopy(column, position, column, position + 1, size - position);
+                    column[position] = value;
+                }
+                case DOUBLE -> {
+                    double[] column = (double[]) data[i];
+                    double value = column[size];
+                    System.arraycopy(column, position, column, position + 1, size - position);
+                    column[position] = value;
+                }
+            }
+        }
+
+        size++;
+    }
+
+    /**
+     * Appends a collection of records, growing the columns at most once.
+     * If reading a record throws, the records before it stay added.
+     *
+     * @param collection is the set of element that will be provided as an argument.
+     * @throws InvalidParameterException if the collection is NULL
+     */
+    @SuppressWarnings("unchecked")
+    public void addAll(Collection<? super T> collection) {
+        if (collection == null) {
+            throw new InvalidParameterException("NULL cannot be passed as collection argument.");
+        }
+
+        Object[] elements = collection.toArray();
+
+        if (size + elements.length > threshold) {
+            grow(size + elements.length);
+        }
+
+        for (Object element : elements) {
+            write((T) element, size);
+            size++;
+        }
+    }
+
+    /**
+     * Remove the record corresponding to the provided position from every column.
+     *
+     * @param position is the index that holds the element to be removed.
+     * @return true if the element was deleted, false otherwise
+     */
+    public boolean remove(int position) {
+        if (position < 0 || position >= size) {
+            return false;
+        }
+
+        size--;
+
+        for (Object column : data) {
+            System.arraycopy(column, position + 1, column, position, size - position);
+        }
+
+        return true;
+    }
+
+    /**
+     * Clears all records, keeping the allocated columns - they hold no references.
+     */
+    public void clear() {
+        growthPolicy.record(size);
+        size = 0;
+    }
+
+    /**
+     * Create a record from the values of the columns at a certain position.
+     *
+     * @param position is the index from which the element will be taken.
+     * @return a new record
+     * @throws IndexOutOfBoundsException if the position is not in the defined range.
+     */
+    public T get(int position) {
+        checkPosition(position);
+
+        return schema.create(new Cursor(position));
+    }
+
+    /**
+     * Read a value of an <code>int</code> column.
+     *
+     * @param position the position of the record.
+     * @param column the number of the column.
+     * @return the value.
+     * @throws IndexOutOfBoundsException if the position is not in the defined range.
+     * @throws InvalidParameterException when the column is of another type.
+     */
+    public int getInt(int position, int column) {
+        checkPosition(position);
+
+        return intColumn(column)[position];
+    }
+
+    /**
+     * Read a value of a <code>long</code> column.
+     *
+     * @param position the position of the record.
+     * @param column the number of the column.
+     * @return the value.
+     * @throws IndexOutOfBoundsException if the position is not in the defined range.
+     * @throws InvalidParameterException when the column is of another type.
+     */
+    public long getLong(int position, int column) {
+        checkPosition(position);
+
+        return longColumn(column)[position];
+    }
+
+    /**
+     * Read a value of a <code>double</code> column.
+     *
+     * @param position the position of the record.
+     * @param column the number of the column.
+     * @return the value.
+     * @throws IndexOutOfBoundsException if the position is not in the defined range.
+     * @throws InvalidParameterException when the column is of another type.
+     */
+    public double getDouble(int position, int column) {
+        checkPosition(position);
+
+        return doubleColumn(column)[position];
+    }
+
+    /**
+     * Scan an <code>int</code> column sequentially, without creating any record.
+     *
+     * @param column the name of the column.
+     * @return the values in the order of the records, which must not be modified while the stream is used.
+     * @throws InvalidParameterException when there's no such <code>int</code> column.
+     */
+    public IntStream ints(String column) {
+        return Arrays.stream(intColumn(schema.indexOf(column)), 0, size);
+    }
+
+    /**
+     * Scan a <code>long</code> column sequentially, without creating any record.
+     *
+     * @param column the name of the column.
+     * @return the values in the order of the records, which must not be modified while the stream is used.
+     * @throws InvalidParameterException when there's no such <code>long</code> column.
+     */
+    public LongStream longs(String column) {
+        return Arrays.stream(longColumn(schema.indexOf(column)), 0, size);
+    }
+
+    /**
+     * Scan a <code>double</code> column sequentially, without creating any record.
+     *
+     * @param column the name of the column.
+     * @return the values in the order of the records, which must not be modified while the stream is used.
+     * @throws InvalidParameterException when there's no such <code>double</code> column.
+     */
+    public DoubleStream doubles(String column) {
+        return Arrays.stream(doubleColumn(schema.indexOf(column)), 0, size);
+    }
+
+    /**
+     * Visit the values of every record without creating it, to project several columns at once.
+     * A single row is moved over the records, so it must not be kept after the action returns.
+     *
+     * @param action receives the row, positioned at every record in turn.
+     * @throws InvalidParameterException if the action is NULL
+     */
+    public void forEachRow(Consumer<? super ColumnarSchema.Row> action) {
+        if (action == null) {
+            throw new InvalidParameterException("NULL cannot be passed as action argument.");
+        }
+
+        Cursor cursor = new Cursor(0);
+
+        for (; cursor.position < size; cursor.position++) {
+            action.accept(cursor);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+
+        for (T element : this) {
+            joiner.add(String.valueOf(element));
+        }
+
+        return joiner.toString();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+
+            int idx = 0;
+
+            @Override
+            public boolean hasNext() {
+                return idx < size;
+            }
+
+            @Override
+            public T next() {
+                if (idx >= size) {
+                    throw new NoSuchElementException();
+                }
+
+                return get(idx++);
+            }
+        };
+    }
+
+    private void checkPosition(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Index out of range.");
+        }
+    }
+
+    private int[] intColumn(int column) {
+        checkType(column, ColumnarSchema.Type.INT);
+
+        return (int[]) data[column];
+    }
+
+    private long[] longColumn(int column) {
+        checkType(column, ColumnarSchema.Type.LONG);
+
+        return (long[]) data[column];
+    }
+
+    private double[] doubleColumn(int column) {
+        checkType(column, ColumnarSchema.Type.DOUBLE);
+
+        return (double[]) data[column];
+    }
+
+    private void checkType(int column, ColumnarSchema.Type type) {
+        if (schema.type(column) != type) {
+            throw new InvalidParameterException("Column " + schema.name(column) + " is not of type "
+                + type.name().toLowerCase() + ".");
+        }
+    }
+
+    /**
+     * Write the values of a record into every column.
+     *
+     * @param element the record.
+     * @param position the position of the record, within the capacity.
+     */
+    private void write(T element, int position) {
+        for (int i = 0; i < data.length; i++) {
+            ColumnarSchema.Column<T> column = schema.get(i);
+
+            switch (column.type) {
+                case INT -> ((int[]) data[i])[position] = column.ints.applyAsInt(element);
+                case LONG -> ((long[]) data[i])[position] = column.longs.applyAsLong(element);
+                case DOUBLE -> ((double[]) data[i])[position] = column.doubles.applyAsDouble(element);
+            }
+        }
+    }
+
+    /**
+     * Grow all columns, so that the required number of records fit.
+     *
+     * @param required the number of records that should fit.
+     * @see GrowthPolicy#grow(int, int)
+     */
+    private void grow(int required) {
+        growthPolicy.record(required);
+        resize(growthPolicy.grow(capacity, required));
+    }
+
+    /**
+     * Replace every column with one of a new length, copying the records.
+     *
+     * @param capacity the new length of the columns.
+     */
+    private void resize(int capacity) {
+        for (int i = 0; i < data.length; i++) {
+            Object column = switch (schema.type(i)) {
+                case INT -> new int[capacity];
+                case LONG -> new long[capacity];
+                case DOUBLE -> new double[capacity];
+            };
+
+            if (data[i] != null) {
+                System.arraycopy(data[i], 0, column, 0, size);
+            }
+
+            data[i] = column;
+        }
+
+        this.capacity = capacity;
+        threshold = growthPolicy.limit(capacity);
+    }
+
+    /**
+     * A row reading the values at a position straight from the columns.
+     */
+    private final class Cursor implements ColumnarSchema.Row {
+
+        int position;
+
+        Cursor(int position) {
+            this.position = position;
+        }
+
+        @Override
+        public int getInt(int column) {
+            return intColumn(column)[position];
+        }
+
+        @Override
+        public long getLong(int column) {
+            return longColumn(column)[position];
+        }
+
+        @Override
+        public double getDouble(int column) {
+            return doubleColumn(column)[position];
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package Coding.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.List;
+
+public class ColumnarListTest {
+
+    private record Trade(int id, long timestamp, double score) {
+    }
+
+    private final static ColumnarSchema<Trade> SCHEMA = ColumnarSchema
+        .<Trade>of(row -> new Trade(row.getInt(0), row.getLong(1), row.getDouble(2)))
+        .intColumn("id", Trade::id)
+        .longColumn("timestamp", Trade::timestamp)
+        .doubleColumn("score", Trade::score);
+
+    private ColumnarList<Trade> list;
+
+    @Before
+    public void before() {
+        list = new ColumnarList<>(SCHEMA);
+    }
+
+    @Test
+    public void testSchema() {
+        Assert.assertEquals(3, SCHEMA.columns());
+        Assert.assertEquals(1, SCHEMA.indexOf("timestamp"));
+        Assert.assertEquals("score", SCHEMA.name(2));
+    }
+
+    @Test(expected = InvalidParameterException.class)
+    public void testSchemaWithDuplicateColumn() {
+        SCHEMA.intColumn("id", Trade::id);
+    }
+
+    @Test(expected = InvalidParameterException.class)
+    public void testUnknownColumn() {
+        list.ints("price");
+    }
+
+    @Test
+    public void testAddAndGet() {
+        for (int i = 0; i < 100; i++) {
+            list.add(new Trade(i, 1000L + i, i / 2.0));
+        }
+
+        Assert.assertEquals(100, list.size());
+
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(new Trade(i, 1000L + i, i / 2.0), list.get(i));
+        }
+
+        Assert.assertEquals(7, list.getInt(7, 0));
+        Assert.assertEquals(1007L, list.getLong(7, 1));
+        Assert.assertEquals(3.5, list.getDouble(7, 2), 0.0);
+    }
+
+    @Test
+    public void testAddInPositionAndRemove() {
+        list.addAll(List.of(new Trade(0, 0, 0), new Trade(2, 2, 2)));
+        list.add(new Trade(1, 1, 1), 1);
+
+        Assert.assertEquals("[Trade[id=0, timestamp=0, score=0.0], Trade[id=1, timestamp=1, score=1.0], "
+            + "Trade[id=2, timestamp=2, score=2.0]]", list.toString());
+
+        Assert.assertTrue(list.remove(0));
+        Assert.assertFalse(list.remove(2));
+
+        Assert.assertEquals(new Trade(1, 1, 1), list.get(0));
+        Assert.assertEquals(new Trade(2, 2, 2), list.get(1));
+    }
+
+    @Test
+    public void testFailedAddLeavesListUnchanged() {
+        list.add(new Trade(1, 1001L, 0.5));
+        list.add(new Trade(2, 1002L, 1.0));
+
+        try {
+            list.add(null);
+            Assert.fail();
+        } catch (NullPointerException expected) {
+        }
+
+        try {
+            list.add(null, 0);
+            Assert.fail();
+        } catch (NullPointerException expected) {
+        }
+
+        try {
+            list.addAll(Arrays.asList(new Trade(3, 1003L, 1.5), null));
+            Assert.fail();
+        } catch (NullPointerException expected) {
+        }
+
+        Assert.assertEquals(3, list.size());
+        Assert.assertEquals(new Trade(1, 1001L, 0.5), list.get(0));
+        Assert.assertEquals(new Trade(2, 1002L, 1.0), list.get(1));
+        Assert.assertEquals(new Trade(3, 1003L, 1.5), list.get(2));
+    }
+
+    @Test
+    public void testColumnScans() {
+        for (int i = 0; i < 1000; i++) {
+            list.add(new Trade(i, i * 10L, i % 10));
+        }
+
+        Assert.assertEquals(499_500, list.ints("id").sum());
+        Assert.assertEquals(9990L, list.longs("timestamp").max().getAsLong());
+        Assert.assertEquals(4.5, list.doubles("score").average().getAsDouble(), 1e-9);
+
+        list.clear();
+
+        Assert.assertEquals(0, list.ints("id").count());
+    }
+
+    @Test(expected = InvalidParameterException.class)
+    public void testColumnScanOfAnotherType() {
+        list.add(new Trade(1, 1, 1));
+        list.longs("id");
+    }
+
+    @Test
+    public void testForEachRow() {
+        for (int i = 0; i < 10; i++) {
+            list.add(new Trade(i, i, i));
+        }
+
+        double[] weighted = new double[1];
+        list.forEachRow(row -> weighted[0] += row.getInt(0) * row.getDouble(2));
+
+        Assert.assertEquals(285.0, weighted[0], 1e-9);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfRange() {
+        list.add(new Trade(1, 1, 1));
+        list.get(1);
+    }
+}
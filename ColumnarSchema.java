@@ -0,0 +1,231 @@
+package Coding.List;
+
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Describes how a record type is decomposed into primitive columns by {@link ColumnarList}, and how it's put back
+ * together from them.
+ *
+ * <p>
+ *     <i>
+ *         Every column has a name and an accessor reading its value from a record. The schema is immutable - adding
+ *         a column returns a new schema, so the columns are registered by chaining the calls:
+ *         <code>ColumnarSchema.of(row -&gt; new Trade(row.getInt(0), row.getDouble(1)))
+ *         .intColumn("id", Trade::id).doubleColumn("score", Trade::score)</code>.
+ *         The columns are numbered in the order they are added.
+ *     </i>
+ * </p>
+ *
+ * @param <T>
+ */
+public final class ColumnarSchema<T> {
+
+    /**
+     * The primitive type of a column.
+     */
+    enum Type {
+        INT, LONG, DOUBLE
+    }
+
+    private final Function<Row, ? extends T> factory;
+
+    private final Column<T>[] columns;
+
+    private ColumnarSchema(Function<Row, ? extends T> factory, Column<T>[] columns) {
+        this.factory = factory;
+        this.columns = columns;
+    }
+
+    /**
+     * Create a schema without columns.
+     *
+     * @param factory creates a record from the values of its columns.
+     * @param <T> the type of the records.
+     * @return the schema.
+     * @throws InvalidParameterException if the factory is NULL
+     */
+    public static <T> ColumnarSchema<T> of(Function<Row, ? extends T> factory) {
+        if (factory == null) {
+            throw new InvalidParameterException("NULL cannot be passed as factory argument.");
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Column<T>[] columns = new Column[0];
+
+        return new ColumnarSchema<>(factory, columns);
+    }
+
+    /**
+     * Add an <code>int</code> column.
+     *
+     * @param name the unique name of the column.
+     * @param accessor reads the value from a record.
+     * @return a new schema, with the column after the existing ones.
+     * @throws InvalidParameterException if the name is already used, or any of the arguments is NULL.
+     */
+    public ColumnarSchema<T> intColumn(String name, ToIntFunction<? super T> accessor) {
+        return with(name, Type.INT, accessor, null, null);
+    }
+
+    /**
+     * Add a <code>long</code> column.
+     *
+     * @param name the unique name of the column.
+     * @param accessor reads the value from a record.
+     * @return a new schema, with the column after the existing ones.
+     * @throws InvalidParameterException if the name is already used, or any of the arguments is NULL.
+     */
+    public ColumnarSchema<T> longColumn(String name, ToLongFunction<? super T> accessor) {
+        return with(name, Type.LONG, null, accessor, null);
+    }
+
+    /**
+     * Add a <code>double</code> column.
+     *
+     * @param name the unique name of the column.
+     * @param accessor reads the value from a record.
+     * @return a new schema, with the column after the existing ones.
+     * @throws InvalidParameterException if the name is already used, or any of the arguments is NULL.
+     */
+    public ColumnarSchema<T> doubleColumn(String name, ToDoubleFunction<? super T> accessor) {
+        return with(name, Type.DOUBLE, null, null, accessor);
+    }
+
+    /**
+     * The number of columns.
+     *
+     * @return the count.
+     */
+    public int columns() {
+        return columns.length;
+    }
+
+    /**
+     * Find a column by its name.
+     *
+     * @param name the name of the column.
+     * @return the number of the column.
+     * @throws InvalidParameterException when there's no such column.
+     */
+    public int indexOf(String name) {
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i].name.equals(name)) {
+                return i;
+            }
+        }
+
+        throw new InvalidParameterException("There's no column named " + name + ".");
+    }
+
+    /**
+     * The name of a column.
+     *
+     * @param column the number of the column.
+     * @return the name.
+     * @throws IndexOutOfBoundsException when there's no such column.
+     */
+    public String name(int column) {
+        return get(column).name;
+    }
+
+    Type type(int column) {
+        return get(column).type;
+    }
+
+    Column<T> get(int column) {
+        if (column < 0 || column >= columns.length) {
+            throw new IndexOutOfBoundsException("Index out of range.");
+        }
+
+        return columns[column];
+    }
+
+    T create(Row row) {
+        return factory.apply(row);
+    }
+
+    private ColumnarSchema<T> with(String name, Type type, ToIntFunction<? super T> ints,
+                                   ToLongFunction<? super T> longs, ToDoubleFunction<? super T> doubles) {
+        if (name == null) {
+            throw new InvalidParameterException("NULL cannot be passed as name argument.");
+        }
+
+        if (ints == null && longs == null && doubles == null) {
+            throw new InvalidParameterException("NULL cannot be passed as accessor argument.");
+        }
+
+        for (Column<T> column : columns) {
+            if (column.name.equals(name)) {
+                throw new InvalidParameterException("There's already a column named " + name + ".");
+            }
+        }
+
+        Column<T>[] columns = Arrays.copyOf(this.columns, this.columns.length + 1);
+        columns[this.columns.length] = new Column<>(name, type, ints, longs, doubles);
+
+        return new ColumnarSchema<>(factory, columns);
+    }
+
+    /**
+     * The values of one record, read directly from the columns.
+     */
+    public interface Row {
+
+        /**
+         * The value of an <code>int</code> column.
+         *
+         * @param column the number of the column.
+         * @return the value.
+         * @throws InvalidParameterException when the column is of another type.
+         */
+        int getInt(int column);
+
+        /**
+         * The value of a <code>long</code> column.
+         *
+         * @param column the number of the column.
+         * @return the value.
+         * @throws InvalidParameterException when the column is of another type.
+         */
+        long getLong(int column);
+
+        /**
+         * The value of a <code>double</code> column.
+         *
+         * @param column the number of the column.
+         * @return the value.
+         * @throws InvalidParameterException when the column is of another type.
+         */
+        double getDouble(int column);
+    }
+
+    /**
+     * A column and the accessor of its type, the other accessors are NULL.
+     */
+    static final class Column<T> {
+
+        final String name;
+
+        final Type type;
+
+        final ToIntFunction<? super T> ints;
+
+        final ToLongFunction<? super T> longs;
+
+        final ToDoubleFunction<? super T> doubles;
+
+        private Column(String name, Type type, ToIntFunction<? super T> ints,
+                       ToLongFunction<? super T> longs, ToDoubleFunction<? super T> doubles) {
+            this.name = name;
+            this.type = type;
+            this.ints = ints;
+            this.longs = longs;
+            this.doubles = doubles;
+        }
+    }
+}
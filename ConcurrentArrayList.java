@@ -0,0 +1,653 @@
+package Coding.List;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Thread-safe representation of a generic ArrayList.
+ *
+ * <p>
+ *     <i>
+ *         Reads (<code>get</code>, <code>size</code>, iteration) never block while there's no structural change
+ *         in progress - they are validated through the optimistic mode of a {@link StampedLock}.
+ *         Appends from many threads run concurrently: every appender reserves its slot with a CAS and marks it
+ *         published once written. The size is advanced over the published slots following it by whichever appender
+ *         finds them, so readers only ever see fully written elements, and an appender never waits
+ *         for the ones which reserved their slots before it.
+ *         Resizing, inserting at a position, removing and clearing take the write lock.
+ *         The bulk operations running a callback - <code>removeIf</code>, <code>replaceAll</code> and
+ *         <code>sort</code> - run it on a copy of the elements without holding the lock, so it may read the list,
+ *         and install the result under the write lock only if the list wasn't modified meanwhile.
+ *     </i>
+ * </p>
+ *
+ * @param <T>
+ */
+public class ConcurrentArrayList<T> implements List<T> {
+
+    /**
+     * Initial array size, when such is not specified.
+     */
+    private final static int DEFAULT_SIZE = 10;
+
+    /**
+     * The factor by which a resizing will be trigger when the backing array is full.
+     */
+    private final static int RESIZING_FACTOR = 2;
+
+    private final static VarHandle SIZE;
+
+    static {
+        try {
+            SIZE = MethodHandles.lookup().findVarHandle(ConcurrentArrayList.class, "size", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Appenders hold it in read mode, structural changes in write mode.
+     */
+    private final StampedLock lock = new StampedLock();
+
+    /**
+     * The number of slots handed out to appenders, always bigger or equal to <code>size</code>.
+     */
+    private final AtomicInteger reserved = new AtomicInteger();
+
+    /**
+     * The number of published elements, advanced with a CAS.
+     */
+    private volatile int size;
+
+    /**
+     * The backing array, only replaced under the write lock.
+     */
+    private volatile Object[] arr;
+
+    /**
+     * A flag per slot of the backing array, set once the element of a reserved slot is written
+     * and cleared again when the size is advanced over it - all flags are clear under the write lock.
+     */
+    private AtomicIntegerArray published;
+
+    /**
+     * The number of modifications made under the write lock, which don't necessarily change the size.
+     */
+    private int version;
+
+    /**
+     * Default constructor initializing the backing array with default size.
+     *
+     * @see #DEFAULT_SIZE
+     */
+    public ConcurrentArrayList() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * Constructor with one parameter, allowing users to customize their desired size.
+     *
+     * @param initialSize represents the desired size that will be initialized at first.
+     * @throws InvalidParameterException when the initialSize is less than 0.
+     */
+    public ConcurrentArrayList(int initialSize) {
+        if (initialSize < 0) {
+            throw new InvalidParameterException("Size cannot be less than 0.");
+        }
+
+        arr = new Object[initialSize];
+        published = new AtomicIntegerArray(initialSize);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Appends an element, concurrently with other appenders.
+     *
+     * @param element represents the entity that will be added in the list.
+     */
+    public void add(T element) {
+        long stamp = lock.readLock();
+
+        try {
+            while (true) {
+                Object[] arr = this.arr;
+                int slot = reserved.get();
+
+                if (slot >= arr.length) {
+                    stamp = grow(stamp, slot + 1);
+                } else if (reserved.compareAndSet(slot, slot + 1)) {
+                    arr[slot] = element;
+                    publish(slot, 1);
+
+                    return;
+                }
+            }
+        } finally {
+            lock.unlock(stamp);
+        }
+    }
+
+    /**
+     * Adds an element in a specified position, shifting all elements after it with 1 position to the right.
+     *
+     * @param element represents the entity that will be added in the list.
+     * @param position is the specified index at which it will be added.
+     * @throws IndexOutOfBoundsException when the position to be added is out of bounds.
+     */
+    public void add(T element, int position) {
+        long stamp = lock.writeLock();
+
+        try {
+            int size = this.size;
+
+            if (position < 0 || position > size) {
+                throw new IndexOutOfBoundsException("Index out of range.");
+            }
+
+            ensureCapacity(size + 1);
+
+            Object[] arr = this.arr;
+            System.arraycopy(arr, position, arr, position + 1, size - position);
+            arr[position] = element;
+
+            reserved.set(size + 1);
+            this.size = size + 1;
+            version++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Appends a collection of elements, reserving all their slots at once.
+     *
+     * @param collection is the set of element that will be provided as an argument.
+     * @throws InvalidParameterException if the collection is NULL
+     */
+    public void addAll(Collection<? super T> collection) {
+        if (collection == null) {
+            throw new InvalidParameterException("NULL cannot be passed as collection argument.");
+        }
+
+        Object[] elements = collection.toArray();
+
+        if (elements.length == 0) {
+            return;
+        }
+
+        long stamp = lock.readLock();
+
+        try {
+            while (true) {
+                Object[] arr = this.arr;
+                int slot = reserved.get();
+
+                if (arr.length - slot < elements.length) {
+                    stamp = grow(stamp, slot + elements.length);
+                } else if (reserved.compareAndSet(slot, slot + elements.length)) {
+                    System.arraycopy(elements, 0, arr, slot, elements.length);
+                    publish(slot, elements.length);
+
+                    return;
+                }
+            }
+        } finally {
+            lock.unlock(stamp);
+        }
+    }
+
+    /**
+     * Adds a collection of elements starting from a specified position, atomically.
+     *
+     * @param collection is the set of element that will be provided as an argument.
+     * @param position is the index at which the first of them will be added.
+     * @throws InvalidParameterException if the collection is NULL
+     * @throws IndexOutOfBoundsException when the position is out of bounds.
+     */
+    @Override
+    public void addAll(Collection<? super T> collection, int position) {
+        if (collection == null) {
+            throw new InvalidParameterException("NULL cannot be passed as collection argument.");
+        }
+
+        Object[] elements = collection.toArray();
+        long stamp = lock.writeLock();
+
+        try {
+            int size = this.size;
+
+            if (position < 0 || position > size) {
+                throw new IndexOutOfBoundsException("Index out of range.");
+            }
+
+            ensureCapacity(size + elements.length);
+
+            Object[] arr = this.arr;
+            System.arraycopy(arr, position, arr, position + elements.length, size - position);
+            System.arraycopy(elements, 0, arr, position, elements.length);
+
+            reserved.set(size + elements.length);
+            this.size = size + elements.length;
+            version++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Remove an element corresponding to the provided position.
+     *
+     * @param position is the index that holds the element to be removed.
+     * @return true if the element was deleted, false otherwise
+     */
+    public boolean remove(int position) {
+        long stamp = lock.writeLock();
+
+        try {
+            int size = this.size;
+
+            if (position < 0 || position >= size) {
+                return false;
+            }
+
+            Object[] arr = this.arr;
+            System.arraycopy(arr, position + 1, arr, position, size - position - 1);
+            arr[size - 1] = null;
+
+            reserved.set(size - 1);
+            this.size = size - 1;
+            version++;
+
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Remove all elements with positions in the range <b>from</b> (inclusive) - <b>to</b> (exclusive), atomically.
+     *
+     * @param from the position of the first element to be removed.
+     * @param to the position after the last element to be removed.
+     * @throws IndexOutOfBoundsException when the range is out of bounds.
+     */
+    @Override
+    public void removeRange(int from, int to) {
+        long stamp = lock.writeLock();
+
+        try {
+            int size = this.size;
+
+            if (from < 0 || to > size || from > to) {
+                throw new IndexOutOfBoundsException("Range out of bounds.");
+            }
+
+            compact(from, to, size);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Remove all elements matching the filter atomically, in a single compaction pass.
+     * The filter runs without holding the lock, so it may read the list. If the list is modified meanwhile,
+     * the filter runs again on the new elements.
+     *
+     * @param filter returns true for the elements to be removed.
+     * @return true if any element was removed.
+     * @throws InvalidParameterException if the filter is NULL
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new InvalidParameterException("NULL cannot be passed as filter argument.");
+        }
+
+        return update(elements -> {
+            int write = 0;
+
+            for (Object element : elements) {
+                if (!filter.test((T) element)) {
+                    elements[write++] = element;
+                }
+            }
+
+            return write == elements.length ? elements : Arrays.copyOf(elements, write);
+        });
+    }
+
+    /**
+     * Replace the element at a position atomically.
+     *
+     * @param element the new element.
+     * @param position the position of the replaced element.
+     * @return the replaced element.
+     * @throws IndexOutOfBoundsException if the position is not in the defined range.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T set(T element, int position) {
+        long stamp = lock.writeLock();
+
+        try {
+            if (position < 0 || position >= size) {
+                throw new IndexOutOfBoundsException("Index out of range.");
+            }
+
+            T replaced = (T) arr[position];
+            arr[position] = element;
+            version++;
+
+            return replaced;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Replace every element with the result of an operator applied to it, atomically.
+     * The operator runs without holding the lock, so it may read the list. If the list is modified meanwhile,
+     * the operator runs again on the new elements.
+     *
+     * @param operator the transformation of the elements.
+     * @throws InvalidParameterException if the operator is NULL
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void replaceAll(UnaryOperator<T> operator) {
+        if (operator == null) {
+            throw new InvalidParameterException("NULL cannot be passed as operator argument.");
+        }
+
+        update(elements -> {
+            for (int i = 0; i < elements.length; i++) {
+                elements[i] = operator.apply((T) elements[i]);
+            }
+
+            return elements;
+        });
+    }
+
+    /**
+     * Sort the elements atomically. The sort is stable.
+     * The comparator runs without holding the lock, so it may read the list. If the list is modified meanwhile,
+     * the elements are sorted again.
+     *
+     * @param comparator the order of the elements, NULL for their natural order.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(Comparator<? super T> comparator) {
+        update(elements -> {
+            Arrays.sort((T[]) elements, comparator);
+
+            return elements;
+        });
+    }
+
+    /**
+     * Clears all elements within the list.
+     */
+    public void clear() {
+        long stamp = lock.writeLock();
+
+        try {
+            arr = new Object[arr.length];
+
+            reserved.set(0);
+            size = 0;
+            version++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Get an element corresponding to a certain position, without blocking unless a structural change is in progress.
+     *
+     * @param position is the index from which the element will be taken.
+     * @return the element
+     * @throws IndexOutOfBoundsException if the position is not in the defined range.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int position) {
+        long stamp = lock.tryOptimisticRead();
+
+        Object[] arr = this.arr;
+        int size = this.size;
+        Object element = position >= 0 && position < size && position < arr.length ? arr[position] : null;
+
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+
+            try {
+                size = this.size;
+                element = position >= 0 && position < size ? this.arr[position] : null;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Index out of range.");
+        }
+
+        return (T) element;
+    }
+
+    /**
+     * Copy the published elements into a right-sized array.
+     *
+     * @return a consistent snapshot of the list.
+     */
+    public Object[] toArray() {
+        long stamp = lock.tryOptimisticRead();
+        Object[] snapshot = Arrays.copyOf(arr, size);
+
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+
+            try {
+                snapshot = Arrays.copyOf(arr, size);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        return snapshot;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * Spliterator over a consistent snapshot of the list, which is sized and splits evenly for parallel streams.
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        Object[] snapshot = toArray();
+
+        return new ArraySpliterator<>(snapshot, 0, snapshot.length);
+    }
+
+    /**
+     * Weakly consistent iterator: it reflects the elements at the moment they are reached and never throws
+     * because of concurrent changes.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+
+            int idx = 0;
+
+            @Override
+            public boolean hasNext() {
+                return idx < size;
+            }
+
+            @Override
+            public T next() {
+                try {
+                    return get(idx++);
+                } catch (IndexOutOfBoundsException e) {
+                    throw new NoSuchElementException();
+                }
+            }
+        };
+    }
+
+    /**
+     * Transform a copy of the elements without holding any lock, then install the result under the write lock
+     * if the list wasn't modified meanwhile, otherwise transform a copy of the new elements.
+     *
+     * @param transformation receives the copy, which it may modify, and returns the new elements.
+     * @return true if the number of elements changed.
+     */
+    private boolean update(UnaryOperator<Object[]> transformation) {
+        while (true) {
+            long stamp = lock.readLock();
+            Object[] elements;
+            int version;
+
+            try {
+                elements = Arrays.copyOf(arr, size);
+                version = this.version;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+
+            Object[] updated = transformation.apply(elements);
+            stamp = lock.writeLock();
+
+            try {
+                // Appends don't change the version, only the size
+                if (version == this.version && size == elements.length) {
+                    Object[] arr = this.arr;
+                    System.arraycopy(updated, 0, arr, 0, updated.length);
+                    Arrays.fill(arr, updated.length, size, null);
+
+                    reserved.set(updated.length);
+                    size = updated.length;
+                    this.version++;
+
+                    return updated.length != elements.length;
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    /**
+     * Close the range <b>from</b> - <b>to</b> by moving the elements after it, requires the write lock.
+     *
+     * @param from the first position of the range.
+     * @param to the position after the range.
+     * @param size the current number of elements.
+     */
+    private void compact(int from, int to, int size) {
+        Object[] arr = this.arr;
+        int newSize = size - (to - from);
+
+        System.arraycopy(arr, to, arr, from, size - to);
+        Arrays.fill(arr, newSize, size, null);
+
+        reserved.set(newSize);
+        this.size = newSize;
+        version++;
+    }
+
+    /**
+     * Mark reserved slots as published, and advance the size over every published slot following it -
+     * the ones of this appender, and of the appenders before it which have finished in the meantime.
+     * If a slot before them is still being written, its appender advances the size over them once it's done,
+     * so <code>size</code> never covers an element which is still being written.
+     *
+     * @param slot the first reserved slot.
+     * @param count the number of reserved slots.
+     */
+    private void publish(int slot, int count) {
+        AtomicIntegerArray published = this.published;
+
+        for (int i = slot; i < slot + count; i++) {
+            published.set(i, 1);
+        }
+
+        int size;
+
+        while ((size = this.size) < published.length() && published.get(size) == 1) {
+            if (SIZE.compareAndSet(this, size, size + 1)) {
+                published.set(size, 0);
+            }
+        }
+    }
+
+    /**
+     * Grow the backing array on behalf of an appender holding the read lock.
+     *
+     * @param readStamp the read lock held by the caller.
+     * @param elements the number of elements that should fit.
+     * @return the read lock the caller holds afterwards.
+     */
+    private long grow(long readStamp, int elements) {
+        long stamp = lock.tryConvertToWriteLock(readStamp);
+
+        if (stamp == 0L) {
+            lock.unlockRead(readStamp);
+            stamp = lock.writeLock();
+        }
+
+        try {
+            ensureCapacity(elements);
+        } finally {
+            stamp = lock.tryConvertToReadLock(stamp);
+        }
+
+        return stamp;
+    }
+
+    /**
+     * Resize the backing array if the requested number of elements doesn't fit. Requires the write lock.
+     *
+     * @param elements the number of elements that should fit.
+     */
+    private void ensureCapacity(int elements) {
+        Object[] arr = this.arr;
+
+        if (elements <= arr.length) {
+            return;
+        }
+
+        int newSize = Math.max(arr.length * RESIZING_FACTOR, DEFAULT_SIZE);
+
+        while (newSize < elements) {
+            newSize *= RESIZING_FACTOR;
+        }
+
+        this.arr = Arrays.copyOf(arr, newSize);
+        published = new AtomicIntegerArray(newSize);
+    }
+}
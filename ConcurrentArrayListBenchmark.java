@@ -0,0 +1,117 @@
+package Coding.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collections;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multi-threaded throughput of {@link ConcurrentArrayList} against <code>Collections.synchronizedList</code>
+ * and {@link CopyOnWriteArrayList}, for a mix of random reads and appends.
+ *
+ * <p>
+ *     <i>
+ *         {@link #main(String[])} runs the benchmarks with 1 to 64 threads, so the scores show how each
+ *         implementation scales with the number of threads.
+ *     </i>
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ConcurrentArrayListBenchmark {
+
+    private final static int INITIAL_ELEMENTS = 100_000;
+
+    /**
+     * The percentage of operations which are appends, the rest are random reads.
+     */
+    @Param({"0", "1", "10", "50"})
+    public int writePercent;
+
+    private ConcurrentArrayList<Integer> concurrentList;
+
+    private java.util.List<Integer> synchronizedList;
+
+    private CopyOnWriteArrayList<Integer> copyOnWriteList;
+
+    @Setup(Level.Iteration)
+    public void fillLists() {
+        java.util.ArrayList<Integer> elements = new java.util.ArrayList<>(INITIAL_ELEMENTS);
+
+        for (int i = 0; i < INITIAL_ELEMENTS; i++) {
+            elements.add(i);
+        }
+
+        concurrentList = new ConcurrentArrayList<>(INITIAL_ELEMENTS);
+        concurrentList.addAll(elements);
+
+        synchronizedList = Collections.synchronizedList(new java.util.ArrayList<>(elements));
+        copyOnWriteList = new CopyOnWriteArrayList<>(elements);
+    }
+
+    @Benchmark
+    public Integer concurrent() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        if (random.nextInt(100) < writePercent) {
+            concurrentList.add(1);
+            return null;
+        }
+
+        return concurrentList.get(random.nextInt(INITIAL_ELEMENTS));
+    }
+
+    @Benchmark
+    public Integer synchronizedList() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        if (random.nextInt(100) < writePercent) {
+            synchronizedList.add(1);
+            return null;
+        }
+
+        return synchronizedList.get(random.nextInt(INITIAL_ELEMENTS));
+    }
+
+    @Benchmark
+    public Integer copyOnWrite() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        if (random.nextInt(100) < writePercent) {
+            copyOnWriteList.add(1);
+            return null;
+        }
+
+        return copyOnWriteList.get(random.nextInt(INITIAL_ELEMENTS));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads = 1; threads <= 64; threads *= 2) {
+            new Runner(new OptionsBuilder()
+                .include(ConcurrentArrayListBenchmark.class.getSimpleName())
+                .threads(threads)
+                .build()
+            ).run();
+        }
+    }
+}
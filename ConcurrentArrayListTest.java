@@ -0,0 +1,174 @@
+package Coding.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+public class ConcurrentArrayListTest {
+
+    private ConcurrentArrayList<Integer> list;
+
+    @Before
+    public void before() {
+        list = new ConcurrentArrayList<>();
+    }
+
+    @Test
+    public void testSingleThreadedOperations() {
+        list.addAll(List.of(1, 2, 3));
+        list.add(0, 0);
+        list.add(4);
+
+        Assert.assertEquals(5, list.size());
+        Assert.assertEquals("[0, 1, 2, 3, 4]", list.toString());
+
+        Assert.assertTrue(list.remove(2));
+        Assert.assertFalse(list.remove(4));
+        Assert.assertEquals("[0, 1, 3, 4]", list.toString());
+
+        list.clear();
+
+        Assert.assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void testBulkOperations() {
+        list.addAll(List.of(1, 2, 3, 4, 5, 6));
+        list.addAll(List.of(-1, -2), 2);
+
+        Assert.assertEquals("[1, 2, -1, -2, 3, 4, 5, 6]", list.toString());
+
+        list.removeRange(0, 2);
+        Assert.assertTrue(list.removeIf(element -> element % 2 == 0));
+        Assert.assertTrue(list.retainAll(List.of(-1, 5)));
+
+        Assert.assertEquals("[-1, 5]", list.toString());
+    }
+
+    @Test
+    public void testSetAndReplaceAll() {
+        list.addAll(List.of(1, 2, 3));
+
+        Assert.assertEquals(Integer.valueOf(2), list.set(5, 1));
+
+        list.replaceAll(element -> element * 10);
+
+        Assert.assertEquals("[10, 50, 30]", list.toString());
+    }
+
+    @Test(timeout = 10_000)
+    public void testCallbacksReadingTheList() {
+        list.addAll(List.of(3, 1, 2));
+
+        list.sort((first, second) -> Integer.compare(first * list.size(), second * list.size()));
+        Assert.assertEquals("[1, 2, 3]", list.toString());
+
+        list.replaceAll(element -> element + list.get(0));
+        Assert.assertEquals("[2, 3, 4]", list.toString());
+
+        Assert.assertTrue(list.removeIf(element -> list.contains(element + 1)));
+        Assert.assertEquals("[4]", list.toString());
+    }
+
+    @Test
+    public void testCallbackModifyingTheListRunsAgain() {
+        list.addAll(List.of(1, 2, 3));
+
+        int[] runs = new int[1];
+        list.replaceAll(element -> {
+            if (runs[0]++ == 0) {
+                list.add(4);
+            }
+
+            return element * 10;
+        });
+
+        Assert.assertEquals("[10, 20, 30, 40]", list.toString());
+        Assert.assertEquals(3 + 4, runs[0]);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetElementOutOfRange() {
+        list.add(1);
+        list.get(1);
+    }
+
+    @Test
+    public void testConcurrentAppends() throws InterruptedException {
+        int threads = 8;
+        int perThread = 10_000;
+
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] workers = new Thread[threads];
+
+        for (int t = 0; t < threads; t++) {
+            int offset = t * perThread;
+
+            workers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+
+                for (int i = 0; i < perThread; i++) {
+                    if (i % 100 == 0) {
+                        list.addAll(List.of(-1, -1));
+                    }
+
+                    list.add(offset + i);
+                }
+            });
+            workers[t].start();
+        }
+
+        start.countDown();
+
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        Set<Integer> seen = new HashSet<>();
+        int markers = 0;
+
+        for (Integer element : list) {
+            Assert.assertNotNull(element);
+
+            if (element == -1) {
+                markers++;
+            } else {
+                Assert.assertTrue(seen.add(element));
+            }
+        }
+
+        Assert.assertEquals(threads * perThread, seen.size());
+        Assert.assertEquals(threads * perThread / 50, markers);
+    }
+
+    @Test
+    public void testReadsDuringAppends() throws InterruptedException {
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 100_000; i++) {
+                list.add(i);
+            }
+        });
+        writer.start();
+
+        while (writer.isAlive()) {
+            int size = list.size();
+
+            if (size > 0) {
+                Assert.assertEquals(Integer.valueOf(size - 1), list.get(size - 1));
+            }
+        }
+
+        writer.join();
+
+        Assert.assertEquals(100_000, list.size());
+    }
+}
@@ -0,0 +1,382 @@
+package Coding.List;
+
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+
+/**
+ * Compressed list of <code>long</code> values, for sorted IDs, timestamps and other values close to their neighbours.
+ *
+ * <p>
+ *     <i>
+ *         The values are stored in blocks of {@link #BLOCK_SIZE}. A full block keeps its first value as the frame of
+ *         reference and every other value as the zigzag varint of the difference to the previous one - a sequence
+ *         of IDs growing by small steps takes 1-2 bytes per value instead of 8. The last, incomplete block is kept
+ *         uncompressed, so appending is O(1) amortized and a block is only encoded once it fills up.
+ *     </i>
+ * </p>
+ *
+ * <p>
+ *     <i>
+ *         <code>getLong</code> decodes the block holding the position, at O(block) cost, and keeps it decoded
+ *         so reading the neighbouring positions is O(1). The iterators decode every block once.
+ *         Inserting or removing anywhere but the last block re-encodes the list, which is O(n).
+ *     </i>
+ * </p>
+ */
+public class DeltaLongList implements LongList {
+
+    private final static int BLOCK_SHIFT = 7;
+
+    /**
+     * The number of values per block.
+     */
+    private final static int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+
+    private final static int BLOCK_MASK = BLOCK_SIZE - 1;
+
+    /**
+     * The factor by which the internal arrays grow when they are full.
+     */
+    private final static int RESIZING_FACTOR = 2;
+
+    /**
+     * The encoded differences of all full blocks, one after another.
+     */
+    private byte[] data = new byte[BLOCK_SIZE];
+
+    /**
+     * The number of used bytes of the encoded differences.
+     */
+    private int dataSize = 0;
+
+    /**
+     * The first value of every full block.
+     */
+    private long[] bases = new long[1];
+
+    /**
+     * Where the differences of every full block start.
+     */
+    private int[] offsets = new int[1];
+
+    /**
+     * The number of full blocks.
+     */
+    private int blocks = 0;
+
+    /**
+     * The values of the last, incomplete block.
+     */
+    private final long[] tail = new long[BLOCK_SIZE];
+
+    /**
+     * The number of values.
+     */
+    private int size = 0;
+
+    /**
+     * The values of the most recently read full block.
+     */
+    private final long[] decoded = new long[BLOCK_SIZE];
+
+    /**
+     * The block held by {@link #decoded}, -1 when none.
+     */
+    private int decodedBlock = -1;
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Appends a value to the last block, encoding the block once it's full.
+     *
+     * @param element represents the value that will be added in the list.
+     */
+    public void addLong(long element) {
+        tail[size & BLOCK_MASK] = element;
+
+        if ((++size & BLOCK_MASK) == 0) {
+            seal();
+        }
+    }
+
+    /**
+     * Adds a value in a specified position. Inserting into the last block shifts only its values,
+     * anywhere else the list is re-encoded.
+     *
+     * @param element represents the value that will be added in the list.
+     * @param position is the specified index at which it will be added.
+     * @throws IndexOutOfBoundsException when the position to be added is out of bounds.
+     */
+    public void addLong(long element, int position) {
+        if (position < 0 || position > size) {
+            throw new IndexOutOfBoundsException("Index out of range.");
+        }
+
+        int tailStart = blocks << BLOCK_SHIFT;
+
+        if (position < tailStart) {
+            long[] values = toArray();
+            long[] inserted = new long[size + 1];
+
+            System.arraycopy(values, 0, inserted, 0, position);
+            inserted[position] = element;
+            System.arraycopy(values, position, inserted, position + 1, size - position);
+
+            clear();
+            addAll(inserted);
+            return;
+        }
+
+        int offset = position - tailStart;
+        System.arraycopy(tail, offset, tail, offset + 1, size - position);
+        tail[offset] = element;
+
+        if ((++size & BLOCK_MASK) == 0) {
+            seal();
+        }
+    }
+
+    /**
+     * Appends all provided values.
+     *
+     * @param elements the values that will be appended.
+     * @throws InvalidParameterException if the array is NULL
+     */
+    public void addAll(long[] elements) {
+        if (elements == null) {
+            throw new InvalidParameterException("NULL cannot be passed as elements argument.");
+        }
+
+        for (long element : elements) {
+            addLong(element);
+        }
+    }
+
+    /**
+     * Remove a value corresponding to the provided position. Removing from the last block shifts only its values,
+     * anywhere else the list is re-encoded.
+     *
+     * @param position is the index that holds the element to be removed.
+     * @return true if the element was deleted, false otherwise
+     */
+    public boolean remove(int position) {
+        if (position < 0 || position >= size) {
+            return false;
+        }
+
+        int tailStart = blocks << BLOCK_SHIFT;
+
+        if (position < tailStart) {
+            long[] values = toArray();
+            System.arraycopy(values, position + 1, values, position, size - position - 1);
+
+            clear();
+            addAll(Arrays.copyOf(values, values.length - 1));
+            return true;
+        }
+
+        int offset = position - tailStart;
+        System.arraycopy(tail, offset + 1, tail, offset, size - position - 1);
+        size--;
+
+        return true;
+    }
+
+    /**
+     * Clears all values, keeping the allocated space.
+     */
+    public void clear() {
+        dataSize = 0;
+        blocks = 0;
+        size = 0;
+        decodedBlock = -1;
+    }
+
+    /**
+     * Get a value corresponding to a certain position, decoding its block unless it's the last one.
+     *
+     * @param position is the index from which the element will be taken.
+     * @return the element
+     * @throws IndexOutOfBoundsException if the position is not in the defined range.
+     */
+    public long getLong(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Index out of range.");
+        }
+
+        int block = position >>> BLOCK_SHIFT;
+
+        if (block == blocks) {
+            return tail[position & BLOCK_MASK];
+        }
+
+        if (block != decodedBlock) {
+            decode(block, decoded);
+            decodedBlock = block;
+        }
+
+        return decoded[position & BLOCK_MASK];
+    }
+
+    /**
+     * Decode all values.
+     *
+     * @return a new array holding the values.
+     */
+    public long[] toArray() {
+        long[] values = new long[size];
+
+        for (int block = 0; block < blocks; block++) {
+            decode(block, values, block << BLOCK_SHIFT);
+        }
+
+        System.arraycopy(tail, 0, values, blocks << BLOCK_SHIFT, size & BLOCK_MASK);
+
+        return values;
+    }
+
+    /**
+     * Apply the action to every value, decoding the blocks one after another.
+     *
+     * @param action the consumer receiving the elements.
+     */
+    public void forEach(LongConsumer action) {
+        long[] buffer = new long[BLOCK_SIZE];
+
+        for (int block = 0; block < blocks; block++) {
+            decode(block, buffer);
+
+            for (long value : buffer) {
+                action.accept(value);
+            }
+        }
+
+        for (int i = 0, tailSize = size & BLOCK_MASK; i < tailSize; i++) {
+            action.accept(tail[i]);
+        }
+    }
+
+    /**
+     * The memory taken by the values - the encoded blocks, their references and the uncompressed last block.
+     *
+     * @return the number of bytes.
+     */
+    public long sizeInBytes() {
+        return (long) data.length + (long) bases.length * Long.BYTES + (long) offsets.length * Integer.BYTES
+            + (long) tail.length * Long.BYTES;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+
+            final long[] buffer = new long[BLOCK_SIZE];
+
+            int idx = 0;
+
+            @Override
+            public boolean hasNext() {
+                return idx < size;
+            }
+
+            @Override
+            public long nextLong() {
+                if (idx >= size) {
+                    throw new NoSuchElementException();
+                }
+
+                int block = idx >>> BLOCK_SHIFT;
+                int offset = idx++ & BLOCK_MASK;
+
+                if (block == blocks) {
+                    return tail[offset];
+                }
+
+                if (offset == 0) {
+                    decode(block, buffer);
+                }
+
+                return buffer[offset];
+            }
+        };
+    }
+
+    /**
+     * Encode the full last block, appending the differences of its values to the encoded data.
+     */
+    private void seal() {
+        if (blocks == bases.length) {
+            bases = Arrays.copyOf(bases, blocks * RESIZING_FACTOR);
+            offsets = Arrays.copyOf(offsets, blocks * RESIZING_FACTOR);
+        }
+
+        // Every varint takes at most 10 bytes
+        if (data.length - dataSize < (BLOCK_SIZE - 1) * 10) {
+            data = Arrays.copyOf(data, Math.max(data.length * RESIZING_FACTOR, dataSize + (BLOCK_SIZE - 1) * 10));
+        }
+
+        bases[blocks] = tail[0];
+        offsets[blocks] = dataSize;
+
+        for (int i = 1; i < BLOCK_SIZE; i++) {
+            long delta = tail[i] - tail[i - 1];
+            long zigzag = (delta << 1) ^ (delta >> 63);
+
+            while ((zigzag & ~0x7FL) != 0) {
+                data[dataSize++] = (byte) (zigzag | 0x80);
+                zigzag >>>= 7;
+            }
+
+            data[dataSize++] = (byte) zigzag;
+        }
+
+        blocks++;
+    }
+
+    private void decode(int block, long[] values) {
+        decode(block, values, 0);
+    }
+
+    /**
+     * Decode all values of a full block.
+     *
+     * @param block the block.
+     * @param values the destination.
+     * @param from the position in the destination of the first value.
+     */
+    private void decode(int block, long[] values, int from) {
+        long value = bases[block];
+        int pos = offsets[block];
+
+        values[from] = value;
+
+        for (int i = 1; i < BLOCK_SIZE; i++) {
+            long zigzag = 0;
+            int shift = 0;
+            byte b;
+
+            do {
+                b = data[pos++];
+                zigzag |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            value += (zigzag >>> 1) ^ -(zigzag & 1);
+            values[from + i] = value;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package Coding.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.security.InvalidParameterException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+public class DeltaLongListTest {
+
+    private DeltaLongList list;
+
+    @Before
+    public void before() {
+        list = new DeltaLongList();
+    }
+
+    @Test(expected = InvalidParameterException.class)
+    public void testAddAllNull() {
+        list.addAll(null);
+    }
+
+    @Test
+    public void testAddAndGetAcrossBlocks() {
+        Random random = new Random(22);
+        long[] values = new long[10_000];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextLong();
+        }
+
+        values[5] = Long.MIN_VALUE;
+        values[6] = Long.MAX_VALUE;
+        list.addAll(values);
+
+        Assert.assertEquals(values.length, list.size());
+        Assert.assertArrayEquals(values, list.toArray());
+
+        for (int i = values.length - 1; i >= 0; i -= 7) {
+            Assert.assertEquals(values[i], list.getLong(i));
+        }
+    }
+
+    @Test
+    public void testSortedIdsCompress() {
+        long id = 1_000_000_000L;
+
+        for (int i = 0; i < 100_000; i++) {
+            id += 1 + i % 50;
+            list.addLong(id);
+        }
+
+        Assert.assertTrue(list.sizeInBytes() * 4 < 100_000L * Long.BYTES);
+        Assert.assertEquals(id, list.getLong(99_999));
+    }
+
+    @Test
+    public void testSequentialDecode() {
+        for (int i = 0; i < 1000; i++) {
+            list.addLong(i * 3L);
+        }
+
+        PrimitiveIterator.OfLong iterator = list.iterator();
+
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertTrue(iterator.hasNext());
+            Assert.assertEquals(i * 3L, iterator.nextLong());
+        }
+
+        Assert.assertFalse(iterator.hasNext());
+
+        long[] sum = new long[1];
+        list.forEach(value -> sum[0] += value);
+
+        Assert.assertEquals(3L * 999 * 1000 / 2, sum[0]);
+    }
+
+    @Test
+    public void testAddInPositionAndRemove() {
+        for (int i = 0; i < 300; i++) {
+            list.addLong(i);
+        }
+
+        list.addLong(-1, 290);
+        list.addLong(-2, 10);
+
+        Assert.assertEquals(302, list.size());
+        Assert.assertEquals(-2, list.getLong(10));
+        Assert.assertEquals(-1, list.getLong(291));
+        Assert.assertEquals(299, list.getLong(301));
+
+        Assert.assertTrue(list.remove(10));
+        Assert.assertTrue(list.remove(290));
+        Assert.assertFalse(list.remove(300));
+
+        for (int i = 0; i < 300; i++) {
+            Assert.assertEquals(i, list.getLong(i));
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfRange() {
+        list.addLong(1);
+        list.getLong(1);
+    }
+
+    @Test
+    public void testClear() {
+        for (int i = 0; i < 500; i++) {
+            list.addLong(i);
+        }
+
+        list.getLong(0);
+        list.clear();
+        list.addAll(new long[]{7, 8});
+
+        Assert.assertEquals("[7, 8]", list.toString());
+    }
+}
@@ -0,0 +1,410 @@
+package Coding.List;
+
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.StringJoiner;
+
+/**
+ * Dictionary-encoded list, for tags, states and other values repeated many times.
+ *
+ * <p>
+ *     <i>
+ *         Every distinct value is stored once in a dictionary, and the list keeps only its code - a
+ *         <code>byte</code> while there are at most 256 distinct values, widening to a <code>short</code> and then
+ *         an <code>int</code> as more are added. <code>get</code> is O(1), and <code>indexOf</code>/<code>contains</code>
+ *         compare the codes instead of calling <code>equals</code>.
+ *     </i>
+ * </p>
+ *
+ * <p>
+ *     <i>
+ *         Values stay in the dictionary after their last occurrence is removed, until the list is cleared.
+ *     </i>
+ * </p>
+ *
+ * @param <T>
+ */
+public class DictionaryList<T> implements List<T> {
+
+    /**
+     * Initial array size, when such is not specified.
+     */
+    private final static int DEFAULT_SIZE = 10;
+
+    /**
+     * The factor by which the arrays grow when they are full.
+     */
+    private final static int RESIZING_FACTOR = 2;
+
+    /**
+     * The distinct values, indexed by their code.
+     */
+    private Object[] dictionary = new Object[DEFAULT_SIZE];
+
+    /**
+     * The number of distinct values.
+     */
+    private int cardinality = 0;
+
+    /**
+     * The code of every distinct value.
+     */
+    private final Map<Object, Integer> codes = new HashMap<>();
+
+    /**
+     * The number of bytes of every code - 1, 2 or 4.
+     */
+    private int width = Byte.BYTES;
+
+    /**
+     * The codes of the elements, while they fit in a byte.
+     */
+    private byte[] bytes;
+
+    /**
+     * The codes of the elements, while they fit in a short.
+     */
+    private short[] shorts;
+
+    /**
+     * The codes of the elements, once they don't fit in a short.
+     */
+    private int[] ints;
+
+    /**
+     * The number of elements.
+     */
+    private int size = 0;
+
+    /**
+     * Default constructor initializing the codes with default size.
+     *
+     * @see #DEFAULT_SIZE
+     */
+    public DictionaryList() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * Constructor allowing users to customize their desired size, avoiding any further costly resizes.
+     *
+     * @param initialSize represents the desired size that will be initialized at first.
+     * @throws InvalidParameterException when the initialSize is less than 0.
+     */
+    public DictionaryList(int initialSize) {
+        if (initialSize < 0) {
+            throw new InvalidParameterException("Size cannot be less than 0.");
+        }
+
+        bytes = new byte[initialSize];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * The number of distinct values in the dictionary.
+     *
+     * @return the count.
+     */
+    public int cardinality() {
+        return cardinality;
+    }
+
+    /**
+     * Appends an element, adding it to the dictionary if it's not there yet.
+     *
+     * @param element represents the entity that will be added in the list.
+     */
+    public void add(T element) {
+        int code = encode(element);
+        ensureCapacity(size + 1);
+        setCode(size++, code);
+    }
+
+    /**
+     * Adds an element in a specified position, shifting all codes after it with 1 position to the right.
+     *
+     * @param element represents the entity that will be added in the list.
+     * @param position is the specified index at which it will be added.
+     * @throws IndexOutOfBoundsException when the position to be added is out of bounds.
+     */
+    public void add(T element, int position) {
+        if (position < 0 || position > size) {
+            throw new IndexOutOfBoundsException("Index out of range.");
+        }
+
+        int code = encode(element);
+        ensureCapacity(size + 1);
+
+        Object codes = codes();
+        System.arraycopy(codes, position, codes, position + 1, size - position);
+
+        setCode(position, code);
+        size++;
+    }
+
+    /**
+     * Appends a collection of elements, growing the codes at most once.
+     *
+     * @param collection is the set of element that will be provided as an argument.
+     * @throws InvalidParameterException if the collection is NULL
+     */
+    public void addAll(Collection<? super T> collection) {
+        if (collection == null) {
+            throw new InvalidParameterException("NULL cannot be passed as collection argument.");
+        }
+
+        Object[] elements = collection.toArray();
+        ensureCapacity(size + elements.length);
+
+        for (Object element : elements) {
+            int code = encode(element);
+            setCode(size++, code);
+        }
+    }
+
+    /**
+     * Remove an element corresponding to the provided position.
+     *
+     * @param position is the index that holds the element to be removed.
+     * @return true if the element was deleted, false otherwise
+     */
+    public boolean remove(int position) {
+        if (position < 0 || position >= size) {
+            return false;
+        }
+
+        Object codes = codes();
+        System.arraycopy(codes, position + 1, codes, position, size - position - 1);
+        size--;
+
+        return true;
+    }
+
+    /**
+     * Clears all elements and the dictionary, narrowing the codes back to bytes.
+     */
+    public void clear() {
+        Arrays.fill(dictionary, 0, cardinality, null);
+        cardinality = 0;
+        codes.clear();
+
+        bytes = new byte[capacity()];
+        shorts = null;
+        ints = null;
+        width = Byte.BYTES;
+        size = 0;
+    }
+
+    /**
+     * Get an element corresponding to a certain position, looking its code up in the dictionary.
+     *
+     * @param position is the index from which the element will be taken.
+     * @return the element
+     * @throws IndexOutOfBoundsException if the position is not in the defined range.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Index out of range.");
+        }
+
+        return (T) dictionary[code(position)];
+    }
+
+    /**
+     * Find the first position of an element by comparing the codes, without calling <code>equals</code>.
+     *
+     * @param element the element to be searched.
+     * @return the position, or -1 if it's not in the list.
+     */
+    @Override
+    public int indexOf(T element) {
+        Integer code = codes.get(element);
+
+        if (code == null) {
+            return -1;
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (code(i) == code) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * The memory taken by the codes, not counting the dictionary.
+     *
+     * @return the number of bytes.
+     */
+    public long sizeInBytes() {
+        return (long) capacity() * width;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+
+        for (T element : this) {
+            joiner.add(String.valueOf(element));
+        }
+
+        return joiner.toString();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+
+            int idx = 0;
+
+            @Override
+            public boolean hasNext() {
+                return idx < size;
+            }
+
+            @Override
+            public T next() {
+                if (idx >= size) {
+                    throw new NoSuchElementException();
+                }
+
+                return get(idx++);
+            }
+        };
+    }
+
+    /**
+     * Find the code of an element, adding it to the dictionary and widening the codes when needed.
+     *
+     * @param element the element.
+     * @return the code.
+     */
+    private int encode(Object element) {
+        Integer code = codes.get(element);
+
+        if (code != null) {
+            return code;
+        }
+
+        if (cardinality == dictionary.length) {
+            dictionary = Arrays.copyOf(dictionary, Math.max(cardinality * RESIZING_FACTOR, DEFAULT_SIZE));
+        }
+
+        if (cardinality == 1 << Byte.SIZE && width == Byte.BYTES) {
+            widen(Short.BYTES);
+        } else if (cardinality == 1 << Short.SIZE && width == Short.BYTES) {
+            widen(Integer.BYTES);
+        }
+
+        dictionary[cardinality] = element;
+        codes.put(element, cardinality);
+
+        return cardinality++;
+    }
+
+    /**
+     * Copy the codes into wider ones.
+     *
+     * @param width the new number of bytes of every code.
+     */
+    private void widen(int width) {
+        int capacity = capacity();
+
+        if (width == Short.BYTES) {
+            shorts = new short[capacity];
+
+            for (int i = 0; i < size; i++) {
+                shorts[i] = (short) (bytes[i] & 0xFF);
+            }
+
+            bytes = null;
+        } else {
+            ints = new int[capacity];
+
+            for (int i = 0; i < size; i++) {
+                ints[i] = shorts[i] & 0xFFFF;
+            }
+
+            shorts = null;
+        }
+
+        this.width = width;
+    }
+
+    private int code(int position) {
+        return switch (width) {
+            case Byte.BYTES -> bytes[position] & 0xFF;
+            case Short.BYTES -> shorts[position] & 0xFFFF;
+            default -> ints[position];
+        };
+    }
+
+    private void setCode(int position, int code) {
+        switch (width) {
+            case Byte.BYTES -> bytes[position] = (byte) code;
+            case Short.BYTES -> shorts[position] = (short) code;
+            default -> ints[position] = code;
+        }
+    }
+
+    /**
+     * The array of the codes, of the current width.
+     *
+     * @return a <code>byte[]</code>, <code>short[]</code> or <code>int[]</code>.
+     */
+    private Object codes() {
+        return switch (width) {
+            case Byte.BYTES -> bytes;
+            case Short.BYTES -> shorts;
+            default -> ints;
+        };
+    }
+
+    private int capacity() {
+        return switch (width) {
+            case Byte.BYTES -> bytes.length;
+            case Short.BYTES -> shorts.length;
+            default -> ints.length;
+        };
+    }
+
+    /**
+     * Grow the codes, so that the required number of elements fit.
+     *
+     * @param required the number of elements that should fit.
+     */
+    private void ensureCapacity(int required) {
+        int capacity = capacity();
+
+        if (required <= capacity) {
+            return;
+        }
+
+        int newCapacity = Math.max(capacity * RESIZING_FACTOR, DEFAULT_SIZE);
+
+        while (newCapacity < required) {
+            newCapacity *= RESIZING_FACTOR;
+        }
+
+        switch (width) {
+            case Byte.BYTES -> bytes = Arrays.copyOf(bytes, newCapacity);
+            case Short.BYTES -> shorts = Arrays.copyOf(shorts, newCapacity);
+            default -> ints = Arrays.copyOf(ints, newCapacity);
+        }
+    }
+}
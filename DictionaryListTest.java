@@ -0,0 +1,87 @@
+package Coding.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+public class DictionaryListTest {
+
+    private DictionaryList<String> list;
+
+    @Before
+    public void before() {
+        list = new DictionaryList<>();
+    }
+
+    @Test
+    public void testRepeatedValuesShareTheDictionary() {
+        String[] tags = {"red", "green", "blue", null};
+
+        for (int i = 0; i < 10_000; i++) {
+            list.add(tags[i % tags.length]);
+        }
+
+        Assert.assertEquals(10_000, list.size());
+        Assert.assertEquals(4, list.cardinality());
+        Assert.assertTrue(list.sizeInBytes() < 10_000L * 4);
+
+        for (int i = 0; i < 10_000; i++) {
+            Assert.assertEquals(tags[i % tags.length], list.get(i));
+        }
+
+        Assert.assertEquals(2, list.indexOf("blue"));
+        Assert.assertEquals(3, list.indexOf(null));
+        Assert.assertEquals(-1, list.indexOf("black"));
+        Assert.assertTrue(list.contains("green"));
+    }
+
+    @Test
+    public void testCodesWiden() {
+        for (int i = 0; i < 70_000; i++) {
+            list.add("v" + i);
+        }
+
+        Assert.assertEquals(70_000, list.cardinality());
+
+        for (int i = 0; i < 70_000; i += 99) {
+            Assert.assertEquals("v" + i, list.get(i));
+        }
+
+        Assert.assertEquals(69_999, list.indexOf("v69999"));
+    }
+
+    @Test
+    public void testAddInPositionAndRemove() {
+        list.addAll(List.of("a", "b", "a"));
+        list.add("c", 1);
+
+        Assert.assertEquals("[a, c, b, a]", list.toString());
+
+        Assert.assertTrue(list.remove(0));
+        Assert.assertFalse(list.remove(3));
+
+        Assert.assertEquals("[c, b, a]", list.toString());
+        Assert.assertEquals(3, list.cardinality());
+    }
+
+    @Test
+    public void testClear() {
+        for (int i = 0; i < 300; i++) {
+            list.add("v" + i);
+        }
+
+        list.clear();
+        list.add("x");
+
+        Assert.assertEquals(1, list.cardinality());
+        Assert.assertEquals("[x]", list.toString());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfRange() {
+        list.add("a");
+        list.get(1);
+    }
+}
@@ -0,0 +1,227 @@
+package Coding.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+public class DoubleArrayListTest {
+
+    private DoubleArrayList list;
+
+    @Before
+    public void before() {
+        list = new DoubleArrayList();
+    }
+
+    @Test(expected = InvalidParameterException.class)
+    public void testSizeAfterInitWithNegativeSizeParamConstruct() {
+        list = new DoubleArrayList(-1);
+    }
+
+    @Test
+    public void testAddFunctionality() {
+        Assert.assertTrue(list.isEmpty());
+
+        for (int i = 0; i < 100; i++) {
+            list.addDouble(i);
+        }
+
+        Assert.assertEquals(100, list.size());
+
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(i, list.getDouble(i), 0);
+        }
+    }
+
+    @Test
+    public void testAddInPosition() {
+        list.addDouble(1);
+        list.addDouble(3);
+        list.addDouble(2, 1);
+        list.addDouble(0, 0);
+
+        Assert.assertArrayEquals(new double[] {0, 1, 2, 3}, list.toArray(), 0);
+    }
+
+    @Test
+    public void testAddInPositionTriggeringResizing() {
+        for (int i = 0; i < 50; i++) {
+            list.addDouble(i, 0);
+        }
+
+        Assert.assertEquals(50, list.size());
+        Assert.assertEquals(49, list.getDouble(0), 0);
+        Assert.assertEquals(0, list.getDouble(49), 0);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testAddInPositivePositionOutOfRange() {
+        list.addDouble(1, 1);
+    }
+
+    @Test
+    public void testAddAll() {
+        list.addDouble(-1);
+        list.addAll(new double[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+
+        Assert.assertEquals(13, list.size());
+        Assert.assertEquals(-1, list.getDouble(0), 0);
+        Assert.assertEquals(12, list.getDouble(12), 0);
+    }
+
+    @Test
+    public void testElementRemoval() {
+        list.addAll(new double[] {1, 2, 3});
+
+        Assert.assertTrue(list.remove(0));
+        Assert.assertFalse(list.remove(2));
+        Assert.assertArrayEquals(new double[] {2, 3}, list.toArray(), 0);
+
+        Assert.assertTrue(list.remove(1));
+        Assert.assertArrayEquals(new double[] {2}, list.toArray(), 0);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetElementOutOfRange() {
+        list.addDouble(1);
+        list.getDouble(1);
+    }
+
+    @Test
+    public void testClear() {
+        list.addAll(new double[] {1, 2, 3});
+        list.clear();
+
+        Assert.assertTrue(list.isEmpty());
+
+        list.addDouble(4);
+
+        Assert.assertArrayEquals(new double[] {4}, list.toArray(), 0);
+    }
+
+    @Test
+    public void testIterateThroughElements() {
+        list.addAll(new double[] {1, 2, 3});
+
+        PrimitiveIterator.OfDouble iterator = list.iterator();
+        double sum = 0;
+
+        while (iterator.hasNext()) {
+            sum += iterator.nextDouble();
+        }
+
+        Assert.assertEquals(6, sum, 0);
+
+        double[] forEachSum = new double[1];
+        list.forEach(element -> forEachSum[0] += element);
+
+        Assert.assertEquals(6, forEachSum[0], 0);
+    }
+
+    @Test
+    public void testWriteToAndReadFrom() throws IOException {
+        for (int i = 0; i < 50_000; i++) {
+            list.addDouble(i * 0.5);
+        }
+
+        Path file = Files.createTempFile("list", ".bin");
+        DoubleArrayList read;
+
+        try {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                list.writeTo(channel);
+            }
+
+            Assert.assertEquals(16 + 50_000 * Double.BYTES, Files.size(file));
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                read = DoubleArrayList.readFrom(channel);
+            }
+        } finally {
+            Files.delete(file);
+        }
+
+        Assert.assertEquals(50_000, read.size());
+
+        for (int i = 0; i < 50_000; i++) {
+            Assert.assertEquals(list.getDouble(i), read.getDouble(i), 0);
+        }
+    }
+
+    @Test
+    public void testWriteToAndReadFromEmptyStream() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        list.writeTo(Channels.newChannel(out));
+
+        Assert.assertEquals(16, out.size());
+
+        DoubleArrayList read = DoubleArrayList.readFrom(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())));
+
+        Assert.assertTrue(read.isEmpty());
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadFromDifferentType() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new IntArrayList().writeTo(Channels.newChannel(out));
+
+        DoubleArrayList.readFrom(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())));
+    }
+
+    @Test
+    public void testSortSmallList() {
+        list.addAll(new double[]{3.0, -1.0, 2.0, 0.0});
+        list.sort();
+
+        Assert.assertArrayEquals(new double[]{-1.0, 0.0, 2.0, 3.0}, list.toArray(), 0.0);
+        Assert.assertEquals(2, list.binarySearch(2.0));
+        Assert.assertEquals(-3, list.binarySearch(1.0));
+    }
+
+    @Test
+    public void testSortBigList() {
+        Random random = new Random(18);
+        double[] values = new double[100_000];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextGaussian();
+        }
+
+        list.addAll(values);
+        list.addAll(new double[]{Double.MIN_VALUE, Double.MAX_VALUE, 0.0, -1.0});
+        list.sort();
+
+        double[] expected = Arrays.copyOf(list.toArray(), list.size());
+        Arrays.sort(expected);
+
+        Assert.assertArrayEquals(expected, list.toArray(), 0.0);
+    }
+
+    @Test
+    public void testParallelSort() {
+        Random random = new Random(18);
+
+        for (int i = 0; i < 100_000; i++) {
+            list.addDouble(random.nextGaussian());
+        }
+
+        double[] expected = list.toArray();
+        Arrays.sort(expected);
+        list.parallelSort();
+
+        Assert.assertArrayEquals(expected, list.toArray(), 0.0);
+    }
+}
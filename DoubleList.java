@@ -0,0 +1,32 @@
+package Coding.List;
+
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Primitive counterpart of {@link List}, which never boxes the elements.
+ */
+public interface DoubleList {
+
+    boolean isEmpty();
+
+    int size();
+
+    void addDouble(double element);
+
+    void addDouble(double element, int position);
+
+    void addAll(double[] elements);
+
+    boolean remove(int position);
+
+    void clear();
+
+    double getDouble(int position);
+
+    double[] toArray();
+
+    PrimitiveIterator.OfDouble iterator();
+
+    void forEach(DoubleConsumer action);
+}
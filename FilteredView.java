@@ -0,0 +1,67 @@
+package Coding.List;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+/**
+ * View of the elements of another view matching a predicate. The positions of the matching elements are found
+ * by a single pass over the source when the view is first read, afterwards <code>get</code> is O(1).
+ * They are found again after any element of the list is replaced, as it may no longer match.
+ *
+ * @param <T>
+ */
+final class FilteredView<T> extends ListView<T> {
+
+    private final ListView<T> source;
+
+    private final Predicate<? super T> filter;
+
+    /**
+     * The positions of the matching elements in the source, NULL until the view is first read.
+     */
+    private int[] positions;
+
+    /**
+     * The number of element replacements in the list when the positions were found.
+     */
+    private int expectedWriteCount;
+
+    FilteredView(ListView<T> source, Predicate<? super T> filter) {
+        super(source.root, source.expectedModCount);
+        this.source = source;
+        this.filter = filter;
+    }
+
+    @Override
+    public int size() {
+        return positions().length;
+    }
+
+    @Override
+    public T get(int position) {
+        checkPosition(position);
+
+        return source.get(positions[position]);
+    }
+
+    private int[] positions() {
+        checkForComodification();
+
+        if (positions == null || root.writeCount() != expectedWriteCount) {
+            int size = source.size();
+            int[] matching = new int[size];
+            int count = 0;
+
+            for (int i = 0; i < size; i++) {
+                if (filter.test(source.get(i))) {
+                    matching[count++] = i;
+                }
+            }
+
+            positions = count == size ? matching : Arrays.copyOf(matching, count);
+            expectedWriteCount = root.writeCount();
+        }
+
+        return positions;
+    }
+}
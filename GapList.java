@@ -0,0 +1,266 @@
+package Coding.List;
+
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.StringJoiner;
+
+/**
+ * Simple single-threaded gap buffer, the storage behind most text editors.
+ *
+ * <p>
+ *     <i>
+ *         The free space of the backing array is kept as one gap at the position of the last edit. Inserting or
+ *         removing next to it only moves the gap boundary, so a stream of edits around a moving cursor costs
+ *         O(distance the cursor moved) instead of shifting the whole tail on every call.
+ *         <code>get</code> stays O(1), skipping over the gap.
+ *     </i>
+ * </p>
+ *
+ * @param <T>
+ */
+public class GapList<T> implements List<T> {
+
+    /**
+     * Initial array size, when such is not specified.
+     */
+    private final static int DEFAULT_SIZE = 10;
+
+    /**
+     * The factor by which the backing array grows when the gap is closed.
+     */
+    private final static int RESIZING_FACTOR = 2;
+
+    /**
+     * The backing array, holding the elements before and after the gap.
+     */
+    private Object[] arr;
+
+    /**
+     * The first slot of the gap, which is also the logical position of the cursor.
+     */
+    private int gapStart = 0;
+
+    /**
+     * The first slot after the gap.
+     */
+    private int gapEnd;
+
+    /**
+     * Default constructor initializing the backing array with default size.
+     *
+     * @see #DEFAULT_SIZE
+     */
+    public GapList() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * Constructor allowing users to customize their desired size, avoiding any further costly resizes.
+     *
+     * @param initialSize represents the desired size that will be initialized at first.
+     * @throws InvalidParameterException when the initialSize is less than 0.
+     */
+    public GapList(int initialSize) {
+        if (initialSize < 0) {
+            throw new InvalidParameterException("Size cannot be less than 0.");
+        }
+
+        arr = new Object[initialSize];
+        gapEnd = initialSize;
+    }
+
+    public int size() {
+        return arr.length - (gapEnd - gapStart);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Appends an element, which moves the gap to the end of the list.
+     *
+     * @param element represents the entity that will be added in the list.
+     */
+    public void add(T element) {
+        add(element, size());
+    }
+
+    /**
+     * Adds an element in a specified position, moving the gap there first.
+     *
+     * @param element represents the entity that will be added in the list.
+     * @param position is the specified index at which it will be added.
+     * @throws IndexOutOfBoundsException when the position to be added is out of bounds.
+     */
+    public void add(T element, int position) {
+        if (position < 0 || position > size()) {
+            throw new IndexOutOfBoundsException("Index out of range.");
+        }
+
+        ensureGap(position, 1);
+
+        arr[gapStart++] = element;
+    }
+
+    /**
+     * Appends a collection of elements, widening the gap at most once.
+     *
+     * @param collection is the set of element that will be provided as an argument.
+     * @throws InvalidParameterException if the collection is NULL
+     */
+    public void addAll(Collection<? super T> collection) {
+        if (collection == null) {
+            throw new InvalidParameterException("NULL cannot be passed as collection argument.");
+        }
+
+        Object[] elements = collection.toArray();
+
+        ensureGap(size(), elements.length);
+
+        System.arraycopy(elements, 0, arr, gapStart, elements.length);
+        gapStart += elements.length;
+    }
+
+    /**
+     * Remove an element corresponding to the provided position, by moving the gap there and widening it.
+     *
+     * @param position is the index that holds the element to be removed.
+     * @return true if the element was deleted, false otherwise
+     */
+    public boolean remove(int position) {
+        if (position < 0 || position >= size()) {
+            return false;
+        }
+
+        moveGap(position);
+
+        arr[gapEnd++] = null;
+
+        return true;
+    }
+
+    /**
+     * Clears all elements within the list.
+     */
+    public void clear() {
+        arr = new Object[arr.length];
+        gapStart = 0;
+        gapEnd = arr.length;
+    }
+
+    /**
+     * Get an element corresponding to a certain position, skipping the gap.
+     *
+     * @param position is the index from which the element will be taken.
+     * @return the element
+     * @throws IndexOutOfBoundsException if the position is not in the defined range.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int position) {
+        if (position < 0 || position >= size()) {
+            throw new IndexOutOfBoundsException("Index out of range.");
+        }
+
+        return (T) arr[position < gapStart ? position : position + gapEnd - gapStart];
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+
+        for (T element : this) {
+            joiner.add(String.valueOf(element));
+        }
+
+        return joiner.toString();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+
+            int idx = 0;
+
+            @Override
+            public boolean hasNext() {
+                return idx < size();
+            }
+
+            @Override
+            public T next() {
+                if (idx >= size()) {
+                    throw new NoSuchElementException();
+                }
+
+                return get(idx++);
+            }
+        };
+    }
+
+    /**
+     * Move the gap to the position, so that it starts there, copying only the elements between the old and new position.
+     *
+     * @param position the logical position where the gap should start.
+     */
+    private void moveGap(int position) {
+        int gapLength = gapEnd - gapStart;
+
+        if (position < gapStart) {
+            int moved = gapStart - position;
+
+            System.arraycopy(arr, position, arr, gapEnd - moved, moved);
+            Arrays.fill(arr, position, Math.min(gapStart, position + gapLength), null);
+        } else if (position > gapStart) {
+            int moved = position - gapStart;
+
+            System.arraycopy(arr, gapEnd, arr, gapStart, moved);
+            Arrays.fill(arr, Math.max(gapEnd, position), gapEnd + moved, null);
+        }
+
+        gapStart = position;
+        gapEnd = position + gapLength;
+    }
+
+    /**
+     * Move the gap to the position and make sure it can take the requested number of elements,
+     * reallocating the backing array with the gap already placed at the position if not.
+     *
+     * @param position the logical position where the gap should start.
+     * @param elements the number of elements which will be inserted there.
+     */
+    private void ensureGap(int position, int elements) {
+        if (gapEnd - gapStart >= elements) {
+            moveGap(position);
+            return;
+        }
+
+        int size = size();
+        int newLength = Math.max(arr.length * RESIZING_FACTOR, DEFAULT_SIZE);
+
+        while (newLength - size < elements) {
+            newLength *= RESIZING_FACTOR;
+        }
+
+        Object[] resized = new Object[newLength];
+        int tail = size - position;
+        int newGapEnd = newLength - tail;
+
+        if (position <= gapStart) {
+            System.arraycopy(arr, 0, resized, 0, position);
+            System.arraycopy(arr, position, resized, newGapEnd, gapStart - position);
+            System.arraycopy(arr, gapEnd, resized, newGapEnd + gapStart - position, arr.length - gapEnd);
+        } else {
+            System.arraycopy(arr, 0, resized, 0, gapStart);
+            System.arraycopy(arr, gapEnd, resized, gapStart, position - gapStart);
+            System.arraycopy(arr, gapEnd + position - gapStart, resized, newGapEnd, tail);
+        }
+
+        arr = resized;
+        gapStart = position;
+        gapEnd = newGapEnd;
+    }
+}
@@ -0,0 +1,111 @@
+package Coding.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Editor-style stream of inserts and removals around a slowly moving cursor, replayed on the shifting
+ * {@link ArrayList} and on the {@link GapList}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class GapListBenchmark {
+
+    /**
+     * The number of edits replayed per invocation.
+     */
+    private final static int EDITS = 1024;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    /**
+     * The position of every edit, each one close to the previous.
+     */
+    private int[] cursors;
+
+    /**
+     * Whether the edit at the same index is an insert or a removal.
+     */
+    private boolean[] inserts;
+
+    private ArrayList<Integer> arrayList;
+
+    private GapList<Integer> gapList;
+
+    @Setup(Level.Iteration)
+    public void createEdits() {
+        Random random = new Random(11);
+
+        cursors = new int[EDITS];
+        inserts = new boolean[EDITS];
+
+        int cursor = size / 2;
+
+        for (int i = 0; i < EDITS; i++) {
+            cursor = Math.max(0, Math.min(size - EDITS, cursor + random.nextInt(9) - 4));
+            cursors[i] = cursor;
+            inserts[i] = (i & 1) == 0;
+        }
+
+        arrayList = new ArrayList<>(size * 2);
+        gapList = new GapList<>(size * 2);
+
+        for (int i = 0; i < size; i++) {
+            arrayList.add(i);
+            gapList.add(i);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EDITS)
+    public void arrayListEdits() {
+        for (int i = 0; i < EDITS; i++) {
+            if (inserts[i]) {
+                arrayList.add(i, cursors[i]);
+            } else {
+                arrayList.remove(cursors[i]);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EDITS)
+    public void gapListEdits() {
+        for (int i = 0; i < EDITS; i++) {
+            if (inserts[i]) {
+                gapList.add(i, cursors[i]);
+            } else {
+                gapList.remove(cursors[i]);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(GapListBenchmark.class.getSimpleName())
+            .build()
+        ).run();
+    }
+}
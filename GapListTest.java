@@ -0,0 +1,104 @@
+package Coding.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+public class GapListTest {
+
+    private GapList<Integer> list;
+
+    @Before
+    public void before() {
+        list = new GapList<>();
+    }
+
+    @Test
+    public void testAddFunctionality() {
+        for (int i = 0; i < 50; i++) {
+            list.add(i);
+        }
+
+        Assert.assertEquals(50, list.size());
+
+        for (int i = 0; i < 50; i++) {
+            Assert.assertEquals(Integer.valueOf(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void testAddInPositionAndRemove() {
+        list.addAll(List.of(0, 1, 2, 3));
+
+        list.add(-1, 2);
+        list.add(-2, 0);
+        list.add(-3, 6);
+
+        Assert.assertEquals("[-2, 0, 1, -1, 2, 3, -3]", list.toString());
+
+        Assert.assertTrue(list.remove(3));
+        Assert.assertTrue(list.remove(0));
+        Assert.assertFalse(list.remove(5));
+
+        Assert.assertEquals("[0, 1, 2, 3, -3]", list.toString());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetElementOutOfRange() {
+        list.add(1);
+        list.get(1);
+    }
+
+    @Test
+    public void testCursorEditsMatchJavaArrayList() {
+        Random random = new Random(3);
+        java.util.ArrayList<Integer> expected = new java.util.ArrayList<>();
+        int cursor = 0;
+
+        for (int i = 0; i < 5_000; i++) {
+            cursor = Math.max(0, Math.min(expected.size(), cursor + random.nextInt(7) - 3));
+
+            if (random.nextInt(3) > 0 || cursor == expected.size()) {
+                list.add(i, cursor);
+                expected.add(cursor, i);
+            } else {
+                list.remove(cursor);
+                expected.remove(cursor);
+            }
+        }
+
+        Assert.assertEquals(expected.size(), list.size());
+        Assert.assertEquals(expected.toString(), list.toString());
+    }
+
+    @Test
+    public void testBulkOperations() {
+        list.addAll(List.of(1, 2, 3, 4, 5, 6));
+        list.addAll(List.of(-1, -2), 2);
+        list.removeRange(0, 1);
+
+        Assert.assertEquals("[2, -1, -2, 3, 4, 5, 6]", list.toString());
+
+        Assert.assertTrue(list.removeIf(element -> element < 0));
+        Assert.assertTrue(list.retainAll(List.of(2, 4, 6)));
+        Assert.assertFalse(list.retainAll(List.of(2, 4, 6)));
+
+        Assert.assertEquals("[2, 4, 6]", list.toString());
+    }
+
+    @Test
+    public void testClear() {
+        list.addAll(List.of(1, 2, 3));
+        list.add(0, 1);
+        list.clear();
+
+        Assert.assertTrue(list.isEmpty());
+
+        list.add(4);
+
+        Assert.assertEquals("[4]", list.toString());
+    }
+}
@@ -0,0 +1,77 @@
+package Coding.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency distribution of a single <code>add</code> for the doubling {@link ArrayList} and the chunked
+ * {@link SegmentedArrayList}. The sample mode reports the percentiles, where the full-copy resizes show up as p99+.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "-XX:+UseG1GC"})
+public class GrowthLatencyBenchmark {
+
+    /**
+     * The number of elements after which the lists are started from scratch.
+     */
+    @Param({"1000000", "10000000"})
+    public int limit;
+
+    private final Object element = new Object();
+
+    private ArrayList<Object> arrayList;
+
+    private SegmentedArrayList<Object> segmentedList;
+
+    @Setup(Level.Iteration)
+    public void createLists() {
+        arrayList = new ArrayList<>();
+        segmentedList = new SegmentedArrayList<>();
+    }
+
+    @Benchmark
+    public void arrayListAdd() {
+        if (arrayList.size() == limit) {
+            arrayList = new ArrayList<>();
+        }
+
+        arrayList.add(element);
+    }
+
+    @Benchmark
+    public void segmentedListAdd() {
+        if (segmentedList.size() == limit) {
+            segmentedList = new SegmentedArrayList<>();
+        }
+
+        segmentedList.add(element);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(GrowthLatencyBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build()
+        ).run();
+    }
+}
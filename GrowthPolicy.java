@@ -0,0 +1,123 @@
+package Coding.List;
+
+/**
+ * Decides how big the backing array of a list is and when it has to grow.
+ *
+ * <p>
+ *     <i>
+ *         Lists cache <code>limit(capacity)</code> whenever their backing array changes, so that adding an element
+ *         only compares the size with a precomputed integer. All capacities are computed in closed form.
+ *     </i>
+ * </p>
+ */
+public interface GrowthPolicy {
+
+    /**
+     * The biggest array size that can be allocated on most virtual machines.
+     */
+    int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    /**
+     * The number of elements an array of the given capacity holds before it has to grow.
+     *
+     * @param capacity the length of the backing array.
+     * @return the maximum number of elements, never bigger than the capacity.
+     */
+    int limit(int capacity);
+
+    /**
+     * The smallest capacity whose limit is at least the required number of elements.
+     *
+     * @param required the number of elements that should fit.
+     * @return the capacity.
+     */
+    int minimumCapacity(int required);
+
+    /**
+     * The capacity the backing array grows to, when the required number of elements doesn't fit.
+     *
+     * @param capacity the current length of the backing array.
+     * @param required the number of elements that should fit.
+     * @return the new capacity, whose limit is at least the required number of elements.
+     * @throws OutOfMemoryError when the required number of elements cannot fit in an array.
+     */
+    int grow(int capacity, int required);
+
+    /**
+     * The capacity of a newly created list.
+     *
+     * @param requested the capacity asked for by the caller.
+     * @return the capacity that will be allocated.
+     */
+    default int initialCapacity(int requested) {
+        return requested;
+    }
+
+    /**
+     * Observe the size a list has reached, which only adaptive policies take into account.
+     *
+     * @param size the number of elements.
+     */
+    default void record(int size) {
+    }
+
+    /**
+     * Doubling the capacity while the occupancy stays at most 75% - the original policy of {@link ArrayList}.
+     *
+     * @return the shared policy.
+     */
+    static GrowthPolicy doubling() {
+        return MultiplicativeGrowthPolicy.DOUBLING;
+    }
+
+    /**
+     * Growing the capacity by half only when the array is full, wasting at most a third of it.
+     *
+     * @return the shared policy.
+     */
+    static GrowthPolicy oneAndAHalf() {
+        return MultiplicativeGrowthPolicy.ONE_AND_A_HALF;
+    }
+
+    /**
+     * Multiplying the capacity by a factor, when the occupancy would exceed the load factor.
+     *
+     * @param factor the growth factor, bigger than 1.
+     * @param loadFactor the maximum occupancy in percentages, between 1 and 100.
+     * @return the policy.
+     */
+    static GrowthPolicy multiplicative(double factor, int loadFactor) {
+        return new MultiplicativeGrowthPolicy(factor, loadFactor);
+    }
+
+    /**
+     * Growing the capacity by a fixed number of elements when the array is full, for lists with a known slow growth.
+     *
+     * @param increment the number of elements added to the capacity.
+     * @return the policy.
+     */
+    static GrowthPolicy incremental(int increment) {
+        return new IncrementalGrowthPolicy(increment);
+    }
+
+    /**
+     * Following another policy, but never growing by more than a number of elements at once.
+     *
+     * @param policy the policy providing the capacities.
+     * @param maxIncrement the maximum growth step in elements.
+     * @return the policy.
+     */
+    static GrowthPolicy capped(GrowthPolicy policy, int maxIncrement) {
+        return new CappedGrowthPolicy(policy, maxIncrement);
+    }
+
+    /**
+     * Learning the sizes the lists created with it reach and sizing new lists accordingly.
+     * A separate instance should be kept per call site.
+     *
+     * @return a new policy growing by half when the array is full.
+     */
+    static GrowthPolicy adaptive() {
+        return new AdaptiveGrowthPolicy(oneAndAHalf());
+    }
+}
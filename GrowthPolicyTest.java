@@ -0,0 +1,123 @@
+package Coding.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.security.InvalidParameterException;
+
+public class GrowthPolicyTest {
+
+    @Test
+    public void testDoublingLimit() {
+        GrowthPolicy policy = GrowthPolicy.doubling();
+
+        Assert.assertEquals(0, policy.limit(0));
+        Assert.assertEquals(7, policy.limit(10));
+        Assert.assertEquals(15, policy.limit(20));
+        Assert.assertEquals(16, policy.minimumCapacity(12));
+    }
+
+    @Test
+    public void testDoublingGrow() {
+        GrowthPolicy policy = GrowthPolicy.doubling();
+
+        Assert.assertEquals(20, policy.grow(10, 8));
+        Assert.assertEquals(20, policy.grow(10, 12));
+        Assert.assertEquals(40, policy.grow(20, 21));
+        Assert.assertEquals(320, policy.grow(10, 140));
+        Assert.assertEquals(2, policy.grow(0, 1));
+    }
+
+    @Test
+    public void testGrowMatchesIterativeDoubling() {
+        GrowthPolicy policy = GrowthPolicy.doubling();
+
+        for (int capacity = 1; capacity < 64; capacity++) {
+            for (int required = policy.limit(capacity) + 1; required < 5000; required += 7) {
+                int expected = capacity;
+
+                while (expected * 75L < required * 100L) {
+                    expected *= 2;
+                }
+
+                Assert.assertEquals(expected, policy.grow(capacity, required));
+            }
+        }
+    }
+
+    @Test
+    public void testMultiplicativeGrowSatisfiesLimit() {
+        GrowthPolicy policy = GrowthPolicy.multiplicative(1.25, 90);
+
+        for (int capacity = 1; capacity < 100; capacity++) {
+            for (int required = policy.limit(capacity) + 1; required < 10_000; required += 13) {
+                int grown = policy.grow(capacity, required);
+
+                Assert.assertTrue(policy.limit(grown) >= required);
+                Assert.assertTrue(grown > capacity);
+            }
+        }
+    }
+
+    @Test
+    public void testOneAndAHalf() {
+        GrowthPolicy policy = GrowthPolicy.oneAndAHalf();
+
+        Assert.assertEquals(10, policy.limit(10));
+        Assert.assertEquals(15, policy.grow(10, 11));
+        Assert.assertEquals(23, policy.grow(10, 16));
+    }
+
+    @Test
+    public void testIncremental() {
+        GrowthPolicy policy = GrowthPolicy.incremental(100);
+
+        Assert.assertEquals(10, policy.limit(10));
+        Assert.assertEquals(110, policy.grow(10, 11));
+        Assert.assertEquals(310, policy.grow(10, 250));
+    }
+
+    @Test
+    public void testCapped() {
+        GrowthPolicy policy = GrowthPolicy.capped(GrowthPolicy.doubling(), 1000);
+
+        Assert.assertEquals(20, policy.grow(10, 8));
+        Assert.assertEquals(11_000, policy.grow(10_000, 7501));
+        Assert.assertEquals(14_000, policy.grow(10_000, 10_500));
+    }
+
+    @Test
+    public void testAdaptive() {
+        AdaptiveGrowthPolicy policy = (AdaptiveGrowthPolicy) GrowthPolicy.adaptive();
+
+        Assert.assertEquals(10, policy.initialCapacity(10));
+
+        policy.record(500);
+
+        Assert.assertEquals(500, policy.estimate());
+        Assert.assertEquals(500, policy.initialCapacity(10));
+
+        policy.record(100);
+
+        Assert.assertEquals(475, policy.estimate());
+
+        policy.record(800);
+
+        Assert.assertEquals(800, policy.estimate());
+    }
+
+    @Test(expected = OutOfMemoryError.class)
+    public void testGrowBeyondMaxCapacity() {
+        GrowthPolicy.doubling().grow(10, Integer.MAX_VALUE - 1);
+    }
+
+    @Test(expected = InvalidParameterException.class)
+    public void testInvalidFactor() {
+        GrowthPolicy.multiplicative(1, 75);
+    }
+
+    @Test(expected = InvalidParameterException.class)
+    public void testInvalidIncrement() {
+        GrowthPolicy.incremental(0);
+    }
+}
@@ -0,0 +1,48 @@
+package Coding.List;
+
+import java.security.InvalidParameterException;
+
+/**
+ * Shrinks the array when the occupancy drops below a load factor, leaving it half empty afterwards,
+ * so that it neither shrinks again nor grows soon.
+ */
+final class HysteresisShrinkPolicy implements ShrinkPolicy {
+
+    static final HysteresisShrinkPolicy DEFAULT = new HysteresisShrinkPolicy(25, 10);
+
+    /**
+     * The occupancy in percentages below which the array shrinks.
+     */
+    private final int loadFactor;
+
+    private final int minimumCapacity;
+
+    HysteresisShrinkPolicy(int loadFactor, int minimumCapacity) {
+        if (loadFactor < 1 || loadFactor > 49) {
+            throw new InvalidParameterException("Load factor should be between 1 and 49.");
+        }
+
+        if (minimumCapacity < 0) {
+            throw new InvalidParameterException("Minimum capacity cannot be less than 0.");
+        }
+
+        this.loadFactor = loadFactor;
+        this.minimumCapacity = minimumCapacity;
+    }
+
+    @Override
+    public int threshold(int capacity) {
+        if (capacity <= minimumCapacity) {
+            return 0;
+        }
+
+        return (int) ((long) capacity * loadFactor / 100);
+    }
+
+    @Override
+    public int shrink(int capacity, int size, GrowthPolicy growthPolicy) {
+        long target = Math.max(minimumCapacity, 2L * growthPolicy.minimumCapacity(size));
+
+        return (int) Math.min(target, capacity);
+    }
+}
@@ -0,0 +1,147 @@
+package Coding.List;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Predicate;
+
+/**
+ * Read-only list over the first elements of an array which is never modified anymore,
+ * safe to be handed to other threads without copying.
+ *
+ * <p>
+ *     <i>
+ *         Created by {@link ArrayList#snapshot()} in O(1) - the list it was taken from copies its backing array
+ *         before modifying it again. All modifying operations throw <code>UnsupportedOperationException</code>.
+ *     </i>
+ * </p>
+ *
+ * @param <T>
+ */
+public final class ImmutableList<T> implements List<T> {
+
+    private final Object[] arr;
+
+    private final int size;
+
+    ImmutableList(Object[] arr, int size) {
+        this.arr = arr;
+        this.size = size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Index out of range.");
+        }
+
+        return (T) arr[position];
+    }
+
+    @Override
+    public int indexOf(T element) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(element, arr[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+
+            private int cursor = 0;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+
+                return (T) arr[cursor++];
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ArraySpliterator<>(arr, 0, size);
+    }
+
+    @Override
+    public void add(T element) {
+        throw unsupported();
+    }
+
+    @Override
+    public void add(T element, int position) {
+        throw unsupported();
+    }
+
+    @Override
+    public void addAll(Collection<? super T> elements) {
+        throw unsupported();
+    }
+
+    @Override
+    public void addAll(Collection<? super T> elements, int position) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean remove(int position) {
+        throw unsupported();
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        throw unsupported();
+    }
+
+    @Override
+    public void clear() {
+        throw unsupported();
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(Arrays.copyOf(arr, size));
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("List is immutable.");
+    }
+}
@@ -0,0 +1,46 @@
+package Coding.List;
+
+import java.security.InvalidParameterException;
+
+/**
+ * Adds a fixed number of elements to the capacity, as many times as needed, once the array is full.
+ */
+final class IncrementalGrowthPolicy implements GrowthPolicy {
+
+    private final int increment;
+
+    IncrementalGrowthPolicy(int increment) {
+        if (increment <= 0) {
+            throw new InvalidParameterException("Increment should be bigger than 0.");
+        }
+
+        this.increment = increment;
+    }
+
+    @Override
+    public int limit(int capacity) {
+        return capacity;
+    }
+
+    @Override
+    public int minimumCapacity(int required) {
+        if (required > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required array size too large.");
+        }
+
+        return required;
+    }
+
+    @Override
+    public int grow(int capacity, int required) {
+        minimumCapacity(required);
+
+        if (capacity >= required) {
+            return capacity;
+        }
+
+        long steps = ((long) required - capacity + increment - 1) / increment;
+
+        return (int) Math.min(capacity + steps * increment, MAX_CAPACITY);
+    }
+}
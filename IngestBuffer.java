@@ -0,0 +1,182 @@
+package Coding.List;
+
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Ingestion buffer for many producer threads appending into an {@link ArrayList} which a single consumer drains.
+ *
+ * <p>
+ *     <i>
+ *         Every producer fills a thread-local batch without any synchronization, and publishes the whole batch
+ *         with one block copy once it's full, so the lock is taken once per batch instead of once per element.
+ *         The consumer drains everything published so far by swapping backing arrays with an empty list, in O(1) -
+ *         draining into the same list after clearing it ping-pongs between two arrays without allocating.
+ *     </i>
+ * </p>
+ *
+ * <p>
+ *     <i>
+ *         A batch is only visible to the consumer once it's published, so producers should {@link #flush()}
+ *         when they stop producing. The elements of one producer are drained in the order they were added,
+ *         but batches of different producers interleave.
+ *     </i>
+ * </p>
+ *
+ * @param <T>
+ */
+public class IngestBuffer<T> {
+
+    /**
+     * The number of elements a producer buffers before publishing them, when such is not specified.
+     */
+    private final static int DEFAULT_BATCH_SIZE = 256;
+
+    private final int batchSize;
+
+    /**
+     * Guards the published elements.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * The elements published by the producers and not drained yet.
+     */
+    private ArrayList<T> published;
+
+    /**
+     * The batch of every producer thread.
+     */
+    private final ThreadLocal<Batch> batches;
+
+    /**
+     * Default constructor, publishing batches of {@link #DEFAULT_BATCH_SIZE} elements.
+     */
+    public IngestBuffer() {
+        this(DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Constructor allowing users to trade the latency until the consumer sees the elements for less contention.
+     *
+     * @param batchSize the number of elements a producer buffers before publishing them.
+     * @throws InvalidParameterException when the batch size is less than 1.
+     */
+    public IngestBuffer(int batchSize) {
+        if (batchSize < 1) {
+            throw new InvalidParameterException("Batch size cannot be less than 1.");
+        }
+
+        this.batchSize = batchSize;
+        published = new ArrayList<>(batchSize);
+        batches = ThreadLocal.withInitial(() -> new Batch(batchSize));
+    }
+
+    /**
+     * Adds an element to the batch of the calling thread, publishing the batch when it's full.
+     *
+     * @param element represents the entity that will be added.
+     */
+    public void add(T element) {
+        Batch batch = batches.get();
+        batch.elements[batch.size++] = element;
+
+        if (batch.size == batchSize) {
+            publish(batch);
+        }
+    }
+
+    /**
+     * Publish the elements buffered by the calling thread, making them visible to the consumer.
+     */
+    public void flush() {
+        Batch batch = batches.get();
+
+        if (batch.size > 0) {
+            publish(batch);
+        }
+    }
+
+    /**
+     * Move all published elements to the end of a list. An empty {@link ArrayList} receives them in O(1)
+     * by exchanging backing arrays, other lists get them one by one.
+     *
+     * @param target the list receiving the elements.
+     * @return the number of drained elements.
+     * @throws InvalidParameterException if the target is NULL
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(List<? super T> target) {
+        if (target == null) {
+            throw new InvalidParameterException("NULL cannot be passed as target argument.");
+        }
+
+        lock.lock();
+
+        try {
+            int size = published.size();
+
+            if (size == 0) {
+                return 0;
+            }
+
+            // The empty array of the target is reused for the next elements
+            if (target.isEmpty() && target instanceof ArrayList && published.swap((ArrayList<T>) target)) {
+                return size;
+            }
+
+            for (int i = 0; i < size; i++) {
+                target.add(published.get(i));
+            }
+
+            published.clear();
+
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The number of published elements, which are not drained yet.
+     *
+     * @return the count.
+     */
+    public int size() {
+        lock.lock();
+
+        try {
+            return published.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void publish(Batch batch) {
+        lock.lock();
+
+        try {
+            published.append(batch.elements, batch.size);
+        } finally {
+            lock.unlock();
+        }
+
+        Arrays.fill(batch.elements, 0, batch.size, null);
+        batch.size = 0;
+    }
+
+    /**
+     * The elements buffered by one producer thread.
+     */
+    private static final class Batch {
+
+        final Object[] elements;
+
+        int size;
+
+        Batch(int batchSize) {
+            elements = new Object[batchSize];
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package Coding.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Producer/consumer throughput of {@link IngestBuffer} at different batch sizes, against producers
+ * appending to an {@link ArrayList} under a lock.
+ *
+ * <p>
+ *     <i>
+ *         Each group runs 4 producers and a single consumer draining every published element. The batch size
+ *         of 1 publishes every element on its own, showing the cost of the lock the batches amortize.
+ *     </i>
+ * </p>
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class IngestBufferBenchmark {
+
+    @Param({"1", "16", "256", "4096"})
+    public int batchSize;
+
+    private IngestBuffer<Integer> buffer;
+
+    private ArrayList<Integer> drained;
+
+    private ArrayList<Integer> lockedList;
+
+    private ArrayList<Integer> lockedDrained;
+
+    @Setup(Level.Iteration)
+    public void createBuffers() {
+        buffer = new IngestBuffer<>(batchSize);
+        drained = new ArrayList<>();
+        lockedList = new ArrayList<>();
+        lockedDrained = new ArrayList<>();
+    }
+
+    @Benchmark
+    @Group("ingest")
+    @GroupThreads(4)
+    public void ingestProducer() {
+        buffer.add(1);
+    }
+
+    @Benchmark
+    @Group("ingest")
+    @GroupThreads(1)
+    public int ingestConsumer() {
+        int count = buffer.drainTo(drained);
+        drained.clear();
+
+        return count;
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(4)
+    public void lockedProducer() {
+        synchronized (lockedList) {
+            lockedList.add(1);
+        }
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(1)
+    public int lockedConsumer() {
+        synchronized (lockedList) {
+            int count = lockedList.size();
+
+            for (int i = 0; i < count; i++) {
+                lockedDrained.add(lockedList.get(i));
+            }
+
+            lockedList.clear();
+        }
+
+        lockedDrained.clear();
+
+        return lockedDrained.size();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(IngestBufferBenchmark.class.getSimpleName())
+            .build()
+        ).run();
+    }
+}
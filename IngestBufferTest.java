@@ -0,0 +1,145 @@
+package Coding.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.security.InvalidParameterException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+public class IngestBufferTest {
+
+    private IngestBuffer<Integer> buffer;
+
+    @Before
+    public void before() {
+        buffer = new IngestBuffer<>(4);
+    }
+
+    @Test(expected = InvalidParameterException.class)
+    public void testInitWithZeroBatchSize() {
+        buffer = new IngestBuffer<>(0);
+    }
+
+    @Test
+    public void testBatchIsPublishedWhenFull() {
+        for (int i = 0; i < 6; i++) {
+            buffer.add(i);
+        }
+
+        Assert.assertEquals(4, buffer.size());
+
+        buffer.flush();
+
+        Assert.assertEquals(6, buffer.size());
+    }
+
+    @Test
+    public void testDrainToEmptyListSwapsArrays() {
+        for (int i = 0; i < 8; i++) {
+            buffer.add(i);
+        }
+
+        ArrayList<Integer> target = new ArrayList<>();
+
+        Assert.assertEquals(8, buffer.drainTo(target));
+        Assert.assertEquals(0, buffer.size());
+        Assert.assertEquals(8, target.size());
+
+        for (int i = 0; i < 8; i++) {
+            Assert.assertEquals(Integer.valueOf(i), target.get(i));
+        }
+
+        target.clear();
+        buffer.add(8);
+        buffer.flush();
+
+        Assert.assertEquals(1, buffer.drainTo(target));
+        Assert.assertEquals(Integer.valueOf(8), target.get(0));
+        Assert.assertEquals(0, buffer.drainTo(target));
+    }
+
+    @Test
+    public void testDrainToNonEmptyList() {
+        ArrayList<Integer> target = new ArrayList<>();
+        target.add(-1);
+
+        buffer.add(0);
+        buffer.add(1);
+        buffer.flush();
+
+        Assert.assertEquals(2, buffer.drainTo(target));
+        Assert.assertEquals(3, target.size());
+        Assert.assertEquals(Integer.valueOf(-1), target.get(0));
+        Assert.assertEquals(Integer.valueOf(1), target.get(2));
+        Assert.assertEquals(0, buffer.size());
+    }
+
+    @Test
+    public void testDrainToSortedList() {
+        ArrayList<Integer> target = new ArrayList<>();
+        target.enableSortedMode(null);
+
+        buffer.add(2);
+        buffer.add(1);
+        buffer.flush();
+        buffer.drainTo(target);
+
+        Assert.assertEquals(Integer.valueOf(1), target.get(0));
+        Assert.assertEquals(Integer.valueOf(2), target.get(1));
+    }
+
+    @Test
+    public void testConcurrentProducers() throws InterruptedException {
+        int threads = 8;
+        int perThread = 10_001;
+
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] producers = new Thread[threads];
+
+        for (int t = 0; t < threads; t++) {
+            int offset = t * perThread;
+
+            producers[t] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+
+                for (int i = 0; i < perThread; i++) {
+                    buffer.add(offset + i);
+                }
+
+                buffer.flush();
+            });
+            producers[t].start();
+        }
+
+        start.countDown();
+
+        Set<Integer> seen = new HashSet<>();
+        ArrayList<Integer> drained = new ArrayList<>();
+        boolean running = true;
+
+        while (running) {
+            running = false;
+
+            for (Thread producer : producers) {
+                running |= producer.isAlive();
+            }
+
+            buffer.drainTo(drained);
+
+            for (int i = 0; i < drained.size(); i++) {
+                Assert.assertTrue(seen.add(drained.get(i)));
+            }
+
+            drained.clear();
+        }
+
+        Assert.assertEquals(threads * perThread, seen.size());
+    }
+}
@@ -0,0 +1,463 @@
+package Coding.List;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/**
+ * Simple single-threaded ArrayList of <code>int</code> values, storing them in an <code>int[]</code>
+ * without boxing. It follows the same growth semantics as {@link ArrayList}.
+ */
+public class IntArrayList implements IntList {
+
+    /**
+     * Initial array size, when such is not specified.
+     */
+    private final static int DEFAULT_SIZE = 10;
+
+    /**
+     * The size from which sorting with radix passes beats the comparison sort.
+     */
+    private final static int RADIX_SORT_THRESHOLD = 4096;
+
+    /**
+     * The internal elements counter.
+     */
+    private int index = 0;
+
+    /**
+     * Decides the capacity of the backing array, doubling it at 75% occupancy by default.
+     */
+    private final GrowthPolicy growthPolicy;
+
+    /**
+     * The number of elements the backing array holds before it has to grow, precomputed by the growth policy.
+     */
+    private int threshold;
+
+    /**
+     * The backing array.
+     */
+    private int[] arr;
+
+    /**
+     * Default constructor initializing the backing array with default size.
+     *
+     * @see #DEFAULT_SIZE
+     */
+    public IntArrayList() {
+        this(DEFAULT_SIZE, GrowthPolicy.doubling());
+    }
+
+    /**
+     * Constructor allowing users to customize their desired size, avoiding any further costly resizes.
+     *
+     * @param initialSize represents the desired size that will be initialized at first.
+     * @throws InvalidParameterException when the initialSize is less than 0.
+     */
+    public IntArrayList(int initialSize) {
+        this(initialSize, GrowthPolicy.doubling());
+    }
+
+    /**
+     * Constructor allowing users to customize both the initial size and how the list grows afterwards.
+     *
+     * @param initialSize represents the desired size, which an adaptive policy may enlarge.
+     * @param growthPolicy decides when and how much the backing array grows.
+     * @throws InvalidParameterException when the initialSize is less than 0, or the policy is NULL.
+     */
+    public IntArrayList(int initialSize, GrowthPolicy growthPolicy) {
+        if (initialSize < 0) {
+            throw new InvalidParameterException("Size cannot be less than 0.");
+        }
+
+        if (growthPolicy == null) {
+            throw new InvalidParameterException("NULL cannot be provided as growth policy.");
+        }
+
+        this.growthPolicy = growthPolicy;
+        setArray(new int[growthPolicy.initialCapacity(initialSize)]);
+    }
+
+    /**
+     * Returns the elements from the array.
+     *
+     * @return int representing their count.
+     */
+    public int size() {
+        return index;
+    }
+
+    /**
+     * Check if the list doesn't have any elements.
+     *
+     * @return boolean value indicating if the data-structure is empty.
+     */
+    public boolean isEmpty() {
+        return index == 0;
+    }
+
+    /**
+     * Adds an element and allocates more space if necessary.
+     *
+     * @param element represents the value that will be added in the list.
+     */
+    public void addInt(int element) {
+        if (index >= threshold) {
+            grow(index + 1);
+        }
+
+        arr[index++] = element;
+    }
+
+    /**
+     * Adds an element in a specified position, shifting all elements after it with 1 position to the right.
+     *
+     * @param element represents the value that will be added in the list.
+     * @param position is the specified index at which it will be added.
+     * @throws IndexOutOfBoundsException when the position to be added is out of bounds.
+     */
+    public void addInt(int element, int position) {
+        if (position < 0 || position > index) {
+            throw new IndexOutOfBoundsException("Index out of range.");
+        }
+
+        if (index >= threshold) {
+            grow(index + 1);
+        }
+
+        if (position != index) {
+            shiftElementsRight(position, 1);
+        }
+
+        arr[position] = element;
+        updateIndex(index + 1);
+    }
+
+    /**
+     * Adds all provided values, allocating enough space so that they can fit within the limit of the growth policy.
+     *
+     * @param elements the values that will be appended.
+     * @throws InvalidParameterException if the array is NULL
+     * @see GrowthPolicy#limit(int)
+     */
+    public void addAll(int[] elements) {
+        if (elements == null) {
+            throw new InvalidParameterException("NULL cannot be passed as elements argument.");
+        }
+
+        if (elements.length == 0) {
+            return;
+        }
+
+        if (index + elements.length > threshold) {
+            grow(index + elements.length);
+        }
+
+        System.arraycopy(elements, 0, arr, index, elements.length);
+        updateIndex(index + elements.length);
+    }
+
+    /**
+     * Remove an element corresponding to the provided position.
+     *
+     * @param position is the index that holds the element to be removed.
+     * @return true if the element was deleted, false otherwise
+     */
+    public boolean remove(int position) {
+        if (isIndexOutOfBounds(position)) {
+            return false;
+        }
+
+        int lastElementPos = --index;
+
+        if (position != lastElementPos) {
+            shiftElementsLeft(position);
+        }
+
+        arr[lastElementPos] = 0;
+
+        return true;
+    }
+
+    /**
+     * Clears all elements within the list, keeping the allocated space.
+     */
+    public void clear() {
+        growthPolicy.record(index);
+
+        Arrays.fill(arr, 0, index, 0);
+        updateIndex(0);
+    }
+
+    /**
+     * Get an element corresponding to a certain position.
+     *
+     * @param position is the index from which the element will be taken.
+     * @return the element
+     * @throws IndexOutOfBoundsException if the position is not in the defined range.
+     */
+    public int getInt(int position) {
+        if (isIndexOutOfBounds(position)) {
+            throw new IndexOutOfBoundsException("Index out of range.");
+        }
+
+        return arr[position];
+    }
+
+    /**
+     * Copy the elements into a right-sized array.
+     *
+     * @return the elements of the list.
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(arr, index);
+    }
+
+    /**
+     * Apply the action to every element, without boxing.
+     *
+     * @param action the consumer receiving the elements.
+     */
+    public void forEach(IntConsumer action) {
+        int[] elements = arr;
+
+        for (int i = 0, size = index; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    /**
+     * Sort the values in ascending order. Big lists are sorted with a least significant digit radix sort,
+     * a byte per pass, which runs in linear time at the cost of a buffer as long as the backing array.
+     */
+    public void sort() {
+        if (index < RADIX_SORT_THRESHOLD) {
+            Arrays.sort(arr, 0, index);
+        } else {
+            radixSort();
+        }
+    }
+
+    /**
+     * Sort the values in ascending order with the fork-join common pool, which pays off for big lists.
+     */
+    public void parallelSort() {
+        Arrays.parallelSort(arr, 0, index);
+    }
+
+    /**
+     * Search a value, the list must be sorted in ascending order.
+     *
+     * @param element the value to be searched.
+     * @return the position of the value, otherwise <code>-(insertion point) - 1</code>.
+     */
+    public int binarySearch(int element) {
+        return Arrays.binarySearch(arr, 0, index, element);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+
+            int idx = 0;
+
+            @Override
+            public boolean hasNext() {
+                return idx < index;
+            }
+
+            @Override
+            public int nextInt() {
+                if (idx >= index) {
+                    throw new NoSuchElementException();
+                }
+
+                return arr[idx++];
+            }
+        };
+    }
+
+    /**
+     * Write the values to a channel in the binary format of the lists. The values are bulk-copied into 64KB chunks,
+     * the first of them written together with the header through a gathering write.
+     *
+     * @param channel the destination.
+     * @throws IOException when writing fails.
+     * @throws InvalidParameterException when the channel is NULL.
+     * @see #readFrom(ReadableByteChannel)
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        if (channel == null) {
+            throw new InvalidParameterException("NULL cannot be provided as an argument.");
+        }
+
+        ByteBuffer header = BinaryFormat.header(BinaryFormat.INT, Integer.BYTES, index);
+        ByteBuffer chunk = BinaryFormat.chunk(Integer.BYTES);
+        int chunkElements = chunk.capacity() / Integer.BYTES;
+        int from = 0;
+
+        do {
+            int count = Math.min(index - from, chunkElements);
+            chunk.clear();
+            chunk.asIntBuffer().put(arr, from, count);
+            chunk.limit(count * Integer.BYTES);
+
+            BinaryFormat.writeFully(channel, header, chunk);
+            from += count;
+        } while (from < index);
+    }
+
+    /**
+     * Read a list written by {@link #writeTo(WritableByteChannel)}, allocating its whole capacity up front
+     * from the count in the header and bulk-copying the values into it.
+     *
+     * @param channel the source, positioned at the start of the list.
+     * @return the list.
+     * @throws IOException when the data is not a list of <code>int</code> values, or reading fails.
+     * @throws InvalidParameterException when the channel is NULL.
+     */
+    public static IntArrayList readFrom(ReadableByteChannel channel) throws IOException {
+        if (channel == null) {
+            throw new InvalidParameterException("NULL cannot be provided as an argument.");
+        }
+
+        int count = BinaryFormat.readHeader(channel, BinaryFormat.INT, Integer.BYTES);
+        GrowthPolicy growthPolicy = GrowthPolicy.doubling();
+        IntArrayList list = new IntArrayList(growthPolicy.minimumCapacity(count), growthPolicy);
+
+        ByteBuffer chunk = BinaryFormat.chunk(Integer.BYTES);
+        int chunkElements = chunk.capacity() / Integer.BYTES;
+
+        for (int from = 0; from < count; ) {
+            int elements = Math.min(count - from, chunkElements);
+            chunk.clear().limit(elements * Integer.BYTES);
+            BinaryFormat.readFully(channel, chunk);
+
+            chunk.flip();
+            chunk.asIntBuffer().get(list.arr, from, elements);
+            from += elements;
+        }
+
+        list.updateIndex(count);
+
+        return list;
+    }
+
+    /**
+     * Sort the values byte by byte, from the least significant one, swapping the backing array with the buffer
+     * after every pass. The sign bit is flipped in the most significant byte so negative values go first.
+     */
+    private void radixSort() {
+        int[] from = arr;
+        int[] to = new int[arr.length];
+        int[] offsets = new int[256];
+
+        for (int shift = 0; shift < Integer.SIZE; shift += 8) {
+            int flip = shift == Integer.SIZE - 8 ? 0x80 : 0;
+            Arrays.fill(offsets, 0);
+
+            for (int i = 0; i < index; i++) {
+                int value = from[i];
+                offsets[((value >>> shift) & 0xFF) ^ flip]++;
+            }
+
+            int first = from[0];
+            int firstDigit = ((first >>> shift) & 0xFF) ^ flip;
+
+            // All values share this byte, the pass would not move them
+            if (offsets[firstDigit] == index) {
+                continue;
+            }
+
+            for (int digit = 0, offset = 0; digit < offsets.length; digit++) {
+                int count = offsets[digit];
+                offsets[digit] = offset;
+                offset += count;
+            }
+
+            for (int i = 0; i < index; i++) {
+                int value = from[i];
+                to[offsets[((value >>> shift) & 0xFF) ^ flip]++] = value;
+            }
+
+            int[] sorted = to;
+            to = from;
+            from = sorted;
+        }
+
+        setArray(from);
+    }
+
+    /**
+     * Check if the provided index is out of bounds.
+     *
+     * @param index the value that will be checked against the defined constraints.
+     * @return true if it's out of bounds, false otherwise.
+     */
+    private boolean isIndexOutOfBounds(int index) {
+        return index < 0 || index >= this.index;
+    }
+
+    /**
+     * Resize the backing array (along with copying all current content), so that the required number of elements fit.
+     *
+     * @param required the number of elements that should fit.
+     * @see GrowthPolicy#grow(int, int)
+     */
+    private void grow(int required) {
+        growthPolicy.record(required);
+        setArray(Arrays.copyOf(arr, growthPolicy.grow(arr.length, required)));
+    }
+
+    /**
+     * Switch the backing array, precomputing the number of elements it holds before it has to grow.
+     *
+     * @param arr the new backing array.
+     */
+    private void setArray(int[] arr) {
+        this.arr = arr;
+        threshold = growthPolicy.limit(arr.length);
+    }
+
+    /**
+     * Shift elements 1 position to the left.
+     *
+     * @param fromIndex is the position from which it's started.
+     */
+    private void shiftElementsLeft(int fromIndex) {
+        System.arraycopy(arr, fromIndex + 1, arr, fromIndex, index - fromIndex);
+    }
+
+    /**
+     * Shift elements starting from <b>fromIndex</b> - <b>positionsRight</b> to the right.
+     *
+     * @param fromIndex represents the position from which all values forward will be moved.
+     * @param positionsRight represents how many positions those values will be moved to the right.
+     */
+    private void shiftElementsRight(int fromIndex, int positionsRight) {
+        if (index - fromIndex >= 0) {
+            System.arraycopy(arr, fromIndex, arr, fromIndex + positionsRight, index - fromIndex);
+        }
+    }
+
+    /**
+     * Update the internal index, indicating how many elements are occupying the backing array.
+     *
+     * @param size is the new value, taking into account the newly added element/s.
+     */
+    private void updateIndex(int size) {
+        index = size;
+    }
+}
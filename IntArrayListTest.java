@@ -0,0 +1,239 @@
+package Coding.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+public class IntArrayListTest {
+
+    private IntArrayList list;
+
+    @Before
+    public void before() {
+        list = new IntArrayList();
+    }
+
+    @Test(expected = InvalidParameterException.class)
+    public void testSizeAfterInitWithNegativeSizeParamConstruct() {
+        list = new IntArrayList(-1);
+    }
+
+    @Test
+    public void testAddFunctionality() {
+        Assert.assertTrue(list.isEmpty());
+
+        for (int i = 0; i < 100; i++) {
+            list.addInt(i);
+        }
+
+        Assert.assertEquals(100, list.size());
+
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(i, list.getInt(i));
+        }
+    }
+
+    @Test
+    public void testAddWithZeroInitialSize() {
+        list = new IntArrayList(0, GrowthPolicy.oneAndAHalf());
+
+        for (int i = 0; i < 100; i++) {
+            list.addInt(i);
+        }
+
+        Assert.assertEquals(100, list.size());
+        Assert.assertEquals(99, list.getInt(99));
+    }
+
+    @Test
+    public void testAddInPosition() {
+        list.addInt(1);
+        list.addInt(3);
+        list.addInt(2, 1);
+        list.addInt(0, 0);
+
+        Assert.assertArrayEquals(new int[] {0, 1, 2, 3}, list.toArray());
+    }
+
+    @Test
+    public void testAddInPositionTriggeringResizing() {
+        for (int i = 0; i < 50; i++) {
+            list.addInt(i, 0);
+        }
+
+        Assert.assertEquals(50, list.size());
+        Assert.assertEquals(49, list.getInt(0));
+        Assert.assertEquals(0, list.getInt(49));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testAddInPositivePositionOutOfRange() {
+        list.addInt(1, 1);
+    }
+
+    @Test
+    public void testAddAll() {
+        list.addInt(-1);
+        list.addAll(new int[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+
+        Assert.assertEquals(13, list.size());
+        Assert.assertEquals(-1, list.getInt(0));
+        Assert.assertEquals(12, list.getInt(12));
+    }
+
+    @Test
+    public void testElementRemoval() {
+        list.addAll(new int[] {1, 2, 3});
+
+        Assert.assertTrue(list.remove(0));
+        Assert.assertFalse(list.remove(2));
+        Assert.assertArrayEquals(new int[] {2, 3}, list.toArray());
+
+        Assert.assertTrue(list.remove(1));
+        Assert.assertArrayEquals(new int[] {2}, list.toArray());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetElementOutOfRange() {
+        list.addInt(1);
+        list.getInt(1);
+    }
+
+    @Test
+    public void testClear() {
+        list.addAll(new int[] {1, 2, 3});
+        list.clear();
+
+        Assert.assertTrue(list.isEmpty());
+
+        list.addInt(4);
+
+        Assert.assertArrayEquals(new int[] {4}, list.toArray());
+    }
+
+    @Test
+    public void testIterateThroughElements() {
+        list.addAll(new int[] {1, 2, 3});
+
+        PrimitiveIterator.OfInt iterator = list.iterator();
+        int sum = 0;
+
+        while (iterator.hasNext()) {
+            sum += iterator.nextInt();
+        }
+
+        Assert.assertEquals(6, sum);
+
+        int[] forEachSum = new int[1];
+        list.forEach(element -> forEachSum[0] += element);
+
+        Assert.assertEquals(6, forEachSum[0]);
+    }
+
+    @Test
+    public void testWriteToAndReadFrom() throws IOException {
+        for (int i = 0; i < 50_000; i++) {
+            list.addInt(i * 3);
+        }
+
+        Path file = Files.createTempFile("list", ".bin");
+        IntArrayList read;
+
+        try {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                list.writeTo(channel);
+            }
+
+            Assert.assertEquals(16 + 50_000 * Integer.BYTES, Files.size(file));
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                read = IntArrayList.readFrom(channel);
+            }
+        } finally {
+            Files.delete(file);
+        }
+
+        Assert.assertEquals(50_000, read.size());
+
+        for (int i = 0; i < 50_000; i++) {
+            Assert.assertEquals(list.getInt(i), read.getInt(i));
+        }
+    }
+
+    @Test
+    public void testWriteToAndReadFromEmptyStream() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        list.writeTo(Channels.newChannel(out));
+
+        Assert.assertEquals(16, out.size());
+
+        IntArrayList read = IntArrayList.readFrom(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())));
+
+        Assert.assertTrue(read.isEmpty());
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadFromDifferentType() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new LongArrayList().writeTo(Channels.newChannel(out));
+
+        IntArrayList.readFrom(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())));
+    }
+
+    @Test
+    public void testSortSmallList() {
+        list.addAll(new int[]{3, -1, 2, 0});
+        list.sort();
+
+        Assert.assertArrayEquals(new int[]{-1, 0, 2, 3}, list.toArray());
+        Assert.assertEquals(2, list.binarySearch(2));
+        Assert.assertEquals(-3, list.binarySearch(1));
+    }
+
+    @Test
+    public void testSortBigList() {
+        Random random = new Random(18);
+        int[] values = new int[100_000];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt();
+        }
+
+        list.addAll(values);
+        list.addAll(new int[]{Integer.MIN_VALUE, Integer.MAX_VALUE, 0, -1});
+        list.sort();
+
+        int[] expected = Arrays.copyOf(list.toArray(), list.size());
+        Arrays.sort(expected);
+
+        Assert.assertArrayEquals(expected, list.toArray());
+    }
+
+    @Test
+    public void testParallelSort() {
+        Random random = new Random(18);
+
+        for (int i = 0; i < 100_000; i++) {
+            list.addInt(random.nextInt());
+        }
+
+        int[] expected = list.toArray();
+        Arrays.sort(expected);
+        list.parallelSort();
+
+        Assert.assertArrayEquals(expected, list.toArray());
+    }
+}
@@ -0,0 +1,32 @@
+package Coding.List;
+
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+/**
+ * Primitive counterpart of {@link List}, which never boxes the elements.
+ */
+public interface IntList {
+
+    boolean isEmpty();
+
+    int size();
+
+    void addInt(int element);
+
+    void addInt(int element, int position);
+
+    void addAll(int[] elements);
+
+    boolean remove(int position);
+
+    void clear();
+
+    int getInt(int position);
+
+    int[] toArray();
+
+    PrimitiveIterator.OfInt iterator();
+
+    void forEach(IntConsumer action);
+}
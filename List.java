@@ -1,6 +1,16 @@
 package Coding.List;
 
+import java.security.InvalidParameterException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public interface List<T> extends Iterable<T> {
 
@@ -14,9 +24,217 @@ public interface List<T> extends Iterable<T> {
 
     void addAll(Collection<? super T> elements);
 
+    /**
+     * Adds a collection of elements starting from a specified position, preserving their iteration order.
+     *
+     * @param elements the elements to be inserted.
+     * @param position is the index at which the first of them will be added.
+     * @throws InvalidParameterException if the collection is NULL
+     * @throws IndexOutOfBoundsException when the position is out of bounds.
+     */
+    @SuppressWarnings("unchecked")
+    default void addAll(Collection<? super T> elements, int position) {
+        if (elements == null) {
+            throw new InvalidParameterException("NULL cannot be passed as collection argument.");
+        }
+
+        if (position < 0 || position > size()) {
+            throw new IndexOutOfBoundsException("Index out of range.");
+        }
+
+        for (Object element : elements) {
+            add((T) element, position++);
+        }
+    }
+
     boolean remove(int position);
 
+    /**
+     * Remove all elements with positions in the range <b>from</b> (inclusive) - <b>to</b> (exclusive).
+     *
+     * @param from the position of the first element to be removed.
+     * @param to the position after the last element to be removed.
+     * @throws IndexOutOfBoundsException when the range is out of bounds.
+     */
+    default void removeRange(int from, int to) {
+        if (from < 0 || to > size() || from > to) {
+            throw new IndexOutOfBoundsException("Range out of bounds.");
+        }
+
+        for (int i = from; i < to; i++) {
+            remove(from);
+        }
+    }
+
+    /**
+     * Remove all elements matching the filter.
+     *
+     * @param filter returns true for the elements to be removed.
+     * @return true if any element was removed.
+     * @throws InvalidParameterException if the filter is NULL
+     */
+    default boolean removeIf(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new InvalidParameterException("NULL cannot be passed as filter argument.");
+        }
+
+        boolean removed = false;
+
+        for (int i = size() - 1; i >= 0; i--) {
+            if (filter.test(get(i))) {
+                remove(i);
+                removed = true;
+            }
+        }
+
+        return removed;
+    }
+
+    /**
+     * Keep only the elements contained in the provided collection.
+     *
+     * @param collection the elements to be kept.
+     * @return true if any element was removed.
+     * @throws InvalidParameterException if the collection is NULL
+     */
+    default boolean retainAll(Collection<?> collection) {
+        if (collection == null) {
+            throw new InvalidParameterException("NULL cannot be passed as collection argument.");
+        }
+
+        return removeIf(element -> !collection.contains(element));
+    }
+
     void clear();
 
     T get(int position);
+
+    /**
+     * Replace the element at a position, by removing it and adding the new one there.
+     *
+     * @param element the new element.
+     * @param position the position of the replaced element.
+     * @return the replaced element.
+     * @throws IndexOutOfBoundsException if the position is not in the defined range.
+     */
+    default T set(T element, int position) {
+        T replaced = get(position);
+
+        remove(position);
+        add(element, position);
+
+        return replaced;
+    }
+
+    /**
+     * Replace every element with the result of an operator applied to it.
+     *
+     * @param operator the transformation of the elements.
+     * @throws InvalidParameterException if the operator is NULL
+     */
+    default void replaceAll(UnaryOperator<T> operator) {
+        if (operator == null) {
+            throw new InvalidParameterException("NULL cannot be passed as operator argument.");
+        }
+
+        for (int i = 0, size = size(); i < size; i++) {
+            set(operator.apply(get(i)), i);
+        }
+    }
+
+    /**
+     * Sort the elements, by copying them out, sorting the copy and adding them back.
+     *
+     * @param comparator the order of the elements, NULL for their natural order.
+     */
+    @SuppressWarnings("unchecked")
+    default void sort(Comparator<? super T> comparator) {
+        T[] elements = (T[]) new Object[size()];
+        int i = 0;
+
+        for (T element : this) {
+            elements[i++] = element;
+        }
+
+        Arrays.sort(elements, comparator);
+        clear();
+
+        for (T element : elements) {
+            add(element);
+        }
+    }
+
+    /**
+     * Search an element in a list sorted by the comparator.
+     *
+     * @param element the element to be searched.
+     * @param comparator the order the list is sorted by, NULL for the natural order of the elements.
+     * @return the position of an element comparing equal, otherwise <code>-(insertion point) - 1</code>.
+     */
+    @SuppressWarnings("unchecked")
+    default int binarySearch(T element, Comparator<? super T> comparator) {
+        Comparator<? super T> order = comparator != null ? comparator : (Comparator<? super T>) Comparator.naturalOrder();
+        int low = 0;
+        int high = size() - 1;
+
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = order.compare(get(mid), element);
+
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+
+        return -(low + 1);
+    }
+
+    /**
+     * Get the position of the first occurrence of an element.
+     *
+     * @param element the element to be searched.
+     * @return the position, or -1 if the element is not present.
+     */
+    default int indexOf(T element) {
+        for (int i = 0, size = size(); i < size; i++) {
+            if (Objects.equals(element, get(i))) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Check if an element is present.
+     *
+     * @param element the element to be searched.
+     * @return true if the list contains it.
+     */
+    default boolean contains(T element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Spliterator reporting the exact size of the list, splitting it through its iterator.
+     * Array-backed implementations override it with one splitting the backing array evenly.
+     *
+     * @return the spliterator over the elements.
+     */
+    @Override
+    default Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED);
+    }
+
+    default Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    default Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
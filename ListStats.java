@@ -0,0 +1,266 @@
+package Coding.List;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Cleaner;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Optional instrumentation of {@link ArrayList} - resizes, shifts and the occupancy of the live lists,
+ * aggregated across all instances with striped counters and exposed through JMX and flight recorder events.
+ *
+ * <p>
+ *     <i>
+ *         Enabled by starting the JVM with <code>-Dcoding.list.stats=true</code>. Every hook in the lists is guarded
+ *         by the <code>static final</code> {@link #ENABLED} flag, which the JIT compiler treats as a constant,
+ *         so when disabled the instrumentation is removed from the compiled code altogether.
+ *     </i>
+ * </p>
+ */
+public final class ListStats implements ListStatsMXBean {
+
+    /**
+     * Whether the lists are instrumented, fixed for the lifetime of the JVM.
+     */
+    public final static boolean ENABLED = Boolean.getBoolean("coding.list.stats");
+
+    /**
+     * The name the statistics are registered with in the platform MBean server.
+     */
+    public final static String OBJECT_NAME = "Coding.List:type=ListStats";
+
+    /**
+     * Bucket <code>k</code> of the histograms counts values in <code>[2^(k-1), 2^k)</code>, bucket 0 counts zeros.
+     */
+    private final static int BUCKETS = Integer.SIZE + 1;
+
+    private final static ListStats INSTANCE = new ListStats();
+
+    private final LongAdder resizes = new LongAdder();
+
+    private final LongAdder resizeCopiedElements = new LongAdder();
+
+    private final LongAdder shifts = new LongAdder();
+
+    private final LongAdder shiftedElements = new LongAdder();
+
+    private final LongAdder[] resizeHistogram = newHistogram();
+
+    private final LongAdder[] shiftHistogram = newHistogram();
+
+    /**
+     * The occupancy of every live list.
+     */
+    private final Set<Tracker> trackers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Forgets the trackers of unreachable lists, not started unless the lists are instrumented.
+     */
+    private final Cleaner cleaner = ENABLED ? Cleaner.create() : null;
+
+    private ListStats() {
+    }
+
+    /**
+     * The statistics of all lists.
+     *
+     * @return the single instance.
+     */
+    public static ListStats get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Register the statistics in the platform MBean server, if they are not registered already.
+     *
+     * @throws IllegalStateException when the registration fails.
+     * @see #OBJECT_NAME
+     */
+    public static void register() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(INSTANCE, new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            // Registered before
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register the list statistics.", e);
+        }
+    }
+
+    /**
+     * Start following the occupancy of a list until it becomes unreachable.
+     *
+     * @param list the list, which is not referenced by the tracker.
+     * @return the tracker the list reports its occupancy to.
+     */
+    static Tracker track(Object list) {
+        Tracker tracker = new Tracker();
+        INSTANCE.trackers.add(tracker);
+
+        if (INSTANCE.cleaner != null) {
+            INSTANCE.cleaner.register(list, tracker);
+        }
+
+        return tracker;
+    }
+
+    /**
+     * Record the replacement of a backing array.
+     *
+     * @param oldCapacity the length of the replaced array.
+     * @param newCapacity the length of the new array.
+     * @param copiedElements the number of elements copied into it.
+     */
+    static void resized(int oldCapacity, int newCapacity, int copiedElements) {
+        INSTANCE.resizes.increment();
+        INSTANCE.resizeCopiedElements.add(copiedElements);
+        INSTANCE.resizeHistogram[bucket(newCapacity)].increment();
+
+        ResizeEvent event = new ResizeEvent();
+
+        if (event.isEnabled()) {
+            event.oldCapacity = oldCapacity;
+            event.newCapacity = newCapacity;
+            event.copiedElements = copiedElements;
+            event.commit();
+        }
+    }
+
+    /**
+     * Record elements moved within a backing array.
+     *
+     * @param elements the number of moved elements.
+     */
+    static void shifted(int elements) {
+        INSTANCE.shifts.increment();
+        INSTANCE.shiftedElements.add(elements);
+        INSTANCE.shiftHistogram[bucket(elements)].increment();
+    }
+
+    @Override
+    public long getResizes() {
+        return resizes.sum();
+    }
+
+    @Override
+    public long getResizeCopiedElements() {
+        return resizeCopiedElements.sum();
+    }
+
+    @Override
+    public long getShifts() {
+        return shifts.sum();
+    }
+
+    @Override
+    public long getShiftedElements() {
+        return shiftedElements.sum();
+    }
+
+    @Override
+    public long[] getResizeHistogram() {
+        return sums(resizeHistogram);
+    }
+
+    @Override
+    public long[] getShiftHistogram() {
+        return sums(shiftHistogram);
+    }
+
+    @Override
+    public int getLiveLists() {
+        return trackers.size();
+    }
+
+    @Override
+    public long getCapacity() {
+        long capacity = 0;
+
+        for (Tracker tracker : trackers) {
+            capacity += tracker.capacity;
+        }
+
+        return capacity;
+    }
+
+    @Override
+    public long getSize() {
+        long size = 0;
+
+        for (Tracker tracker : trackers) {
+            size += tracker.size;
+        }
+
+        return size;
+    }
+
+    @Override
+    public long getWastedCapacity() {
+        long wasted = 0;
+
+        for (Tracker tracker : trackers) {
+            wasted += tracker.capacity - tracker.size;
+        }
+
+        return wasted;
+    }
+
+    @Override
+    public void reset() {
+        resizes.reset();
+        resizeCopiedElements.reset();
+        shifts.reset();
+        shiftedElements.reset();
+
+        for (int i = 0; i < BUCKETS; i++) {
+            resizeHistogram[i].reset();
+            shiftHistogram[i].reset();
+        }
+    }
+
+    private static int bucket(int value) {
+        return Integer.SIZE - Integer.numberOfLeadingZeros(value);
+    }
+
+    private static LongAdder[] newHistogram() {
+        LongAdder[] histogram = new LongAdder[BUCKETS];
+
+        for (int i = 0; i < BUCKETS; i++) {
+            histogram[i] = new LongAdder();
+        }
+
+        return histogram;
+    }
+
+    private static long[] sums(LongAdder[] histogram) {
+        long[] sums = new long[BUCKETS];
+
+        for (int i = 0; i < BUCKETS; i++) {
+            sums[i] = histogram[i].sum();
+        }
+
+        return sums;
+    }
+
+    /**
+     * The occupancy of a single list, written by the list without synchronization and read approximately
+     * by the gauges. Being the cleaning action, it removes itself once the list becomes unreachable.
+     */
+    static final class Tracker implements Runnable {
+
+        int capacity;
+
+        int size;
+
+        private Tracker() {
+        }
+
+        @Override
+        public void run() {
+            INSTANCE.trackers.remove(this);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package Coding.List;
+
+/**
+ * The aggregate statistics of all instrumented lists, as exposed through JMX.
+ *
+ * @see ListStats#register()
+ */
+public interface ListStatsMXBean {
+
+    /**
+     * The number of times a backing array was replaced by a bigger or smaller one.
+     *
+     * @return the count.
+     */
+    long getResizes();
+
+    /**
+     * The number of elements copied into replacement arrays.
+     *
+     * @return the count.
+     */
+    long getResizeCopiedElements();
+
+    /**
+     * The number of times elements were moved within a backing array by insertions and removals.
+     *
+     * @return the count.
+     */
+    long getShifts();
+
+    /**
+     * The number of elements moved within backing arrays.
+     *
+     * @return the count.
+     */
+    long getShiftedElements();
+
+    /**
+     * The new capacities of the resizes, bucket <code>k</code> counting capacities in <code>[2^(k-1), 2^k)</code>.
+     *
+     * @return the counts per bucket.
+     */
+    long[] getResizeHistogram();
+
+    /**
+     * The numbers of elements moved by the shifts, bucketed like {@link #getResizeHistogram()}.
+     *
+     * @return the counts per bucket.
+     */
+    long[] getShiftHistogram();
+
+    /**
+     * The number of instrumented lists which are still reachable.
+     *
+     * @return the count.
+     */
+    int getLiveLists();
+
+    /**
+     * The total length of the backing arrays of the live lists.
+     *
+     * @return the number of positions.
+     */
+    long getCapacity();
+
+    /**
+     * The total number of elements of the live lists.
+     *
+     * @return the number of elements.
+     */
+    long getSize();
+
+    /**
+     * The allocated but unused positions of the backing arrays of the live lists.
+     *
+     * @return the number of positions.
+     */
+    long getWastedCapacity();
+
+    /**
+     * Start counting again from zero, keeping the live lists.
+     */
+    void reset();
+}
@@ -0,0 +1,123 @@
+package Coding.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+
+public class ListStatsTest {
+
+    private ListStats stats;
+
+    @Before
+    public void before() {
+        stats = ListStats.get();
+        stats.reset();
+    }
+
+    @Test
+    public void testResizes() {
+        ListStats.resized(10, 20, 8);
+        ListStats.resized(20, 40, 16);
+
+        Assert.assertEquals(2, stats.getResizes());
+        Assert.assertEquals(24, stats.getResizeCopiedElements());
+        Assert.assertEquals(1, stats.getResizeHistogram()[5]);
+        Assert.assertEquals(1, stats.getResizeHistogram()[6]);
+    }
+
+    @Test
+    public void testShifts() {
+        ListStats.shifted(0);
+        ListStats.shifted(5);
+        ListStats.shifted(7);
+
+        Assert.assertEquals(3, stats.getShifts());
+        Assert.assertEquals(12, stats.getShiftedElements());
+        Assert.assertEquals(1, stats.getShiftHistogram()[0]);
+        Assert.assertEquals(2, stats.getShiftHistogram()[3]);
+
+        stats.reset();
+
+        Assert.assertEquals(0, stats.getShifts());
+        Assert.assertEquals(0, stats.getShiftHistogram()[3]);
+    }
+
+    @Test
+    public void testOccupancyGauges() {
+        int liveLists = stats.getLiveLists();
+        long wasted = stats.getWastedCapacity();
+
+        ListStats.Tracker tracker = ListStats.track(new Object());
+        tracker.capacity = 100;
+        tracker.size = 30;
+
+        Assert.assertEquals(liveLists + 1, stats.getLiveLists());
+        Assert.assertEquals(wasted + 70, stats.getWastedCapacity());
+
+        // Run by the cleaner once the list is unreachable
+        tracker.run();
+
+        Assert.assertEquals(liveLists, stats.getLiveLists());
+    }
+
+    @Test
+    public void testRegister() throws Exception {
+        ListStats.register();
+        ListStats.register();
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ListStats.resized(10, 20, 8);
+
+        Assert.assertEquals(1L, server.getAttribute(new ObjectName(ListStats.OBJECT_NAME), "Resizes"));
+    }
+
+    /**
+     * The hooks are compiled out unless the JVM starts with the flag, so they are exercised in a forked JVM.
+     */
+    @Test
+    public void testArrayListInstrumentation() throws Exception {
+        Process process = new ProcessBuilder(
+            Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+            "-Dcoding.list.stats=true",
+            "-cp", System.getProperty("java.class.path"),
+            Instrumented.class.getName()
+        ).redirectErrorStream(true).start();
+
+        String output = new String(process.getInputStream().readAllBytes()).trim();
+
+        Assert.assertEquals(output, 0, process.waitFor());
+        // Doubling at 75% occupancy copies 7 + 15 + 30 + 60 elements, the inserts shift 1 + ... + 99, the removal 99
+        Assert.assertEquals("resizes=4 copied=112 shifts=100 shifted=5049 size=99 capacity=160", output);
+    }
+
+    /**
+     * Known operations on a list, run with the instrumentation enabled by {@link #testArrayListInstrumentation()}.
+     */
+    public static final class Instrumented {
+
+        public static void main(String[] args) {
+            ListStats stats = ListStats.get();
+
+            if (!ListStats.ENABLED) {
+                throw new IllegalStateException("Instrumentation is not enabled.");
+            }
+
+            ArrayList<Integer> list = new ArrayList<>();
+
+            for (int i = 0; i < 100; i++) {
+                list.add(i, 0);
+            }
+
+            list.remove(0);
+
+            System.out.println("resizes=" + stats.getResizes() + " copied=" + stats.getResizeCopiedElements()
+                + " shifts=" + stats.getShifts() + " shifted=" + stats.getShiftedElements()
+                + " size=" + stats.getSize() + " capacity=" + stats.getCapacity());
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package Coding.List;
+
+import java.security.InvalidParameterException;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.StringJoiner;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Lazy, read-only view over an {@link ArrayList} - a range of it, its elements transformed or filtered,
+ * or any chain of those, without copying the elements.
+ *
+ * <p>
+ *     <i>
+ *         Creating a view is O(1) and reading it goes through the views down to the backing array of the list.
+ *         {@link #materialize()} copies the elements of the view once, into a new list of exactly their size.
+ *         A view fails fast with <code>ConcurrentModificationException</code> when it's read after the list
+ *         was structurally modified. All modifying operations throw <code>UnsupportedOperationException</code>.
+ *     </i>
+ * </p>
+ *
+ * @param <T>
+ * @see ArrayList#subList(int, int)
+ * @see ArrayList#mapped(Function)
+ * @see ArrayList#filtered(Predicate)
+ */
+public abstract class ListView<T> implements List<T> {
+
+    /**
+     * The list all views of a chain read from.
+     */
+    final ArrayList<?> root;
+
+    /**
+     * The number of structural modifications of the list when the chain was created.
+     */
+    final int expectedModCount;
+
+    ListView(ArrayList<?> root, int expectedModCount) {
+        this.root = root;
+        this.expectedModCount = expectedModCount;
+    }
+
+    /**
+     * A view of the elements of this view in the range <b>from</b> (inclusive) - <b>to</b> (exclusive).
+     *
+     * @param from the position of the first element of the view.
+     * @param to the position after the last element of the view.
+     * @return the view.
+     * @throws IndexOutOfBoundsException when the range is out of bounds.
+     */
+    public ListView<T> subList(int from, int to) {
+        if (from < 0 || to > size() || from > to) {
+            throw new IndexOutOfBoundsException("Range out of bounds.");
+        }
+
+        return new SubListView<>(this, from, to);
+    }
+
+    /**
+     * A view transforming the elements of this view when they are read.
+     *
+     * @param function the transformation, applied on every read.
+     * @param <R> the type of the transformed elements.
+     * @return the view.
+     * @throws InvalidParameterException if the function is NULL
+     */
+    public <R> ListView<R> mapped(Function<? super T, ? extends R> function) {
+        if (function == null) {
+            throw new InvalidParameterException("NULL cannot be passed as function argument.");
+        }
+
+        return new MappedView<>(this, function);
+    }
+
+    /**
+     * A view of the elements of this view matching a predicate, which are found when the view is first read.
+     *
+     * @param filter returns true for the elements of the view.
+     * @return the view.
+     * @throws InvalidParameterException if the filter is NULL
+     */
+    public ListView<T> filtered(Predicate<? super T> filter) {
+        if (filter == null) {
+            throw new InvalidParameterException("NULL cannot be passed as filter argument.");
+        }
+
+        return new FilteredView<>(this, filter);
+    }
+
+    /**
+     * Copy the elements of the view into a new list, whose backing array has exactly their number.
+     *
+     * @return the list.
+     * @throws ConcurrentModificationException when the list was structurally modified since the view was created.
+     */
+    public ArrayList<T> materialize() {
+        Object[] elements = new Object[size()];
+
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = get(i);
+        }
+
+        return ArrayList.wrap(elements);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+
+            private int cursor = 0;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size();
+            }
+
+            @Override
+            public T next() {
+                if (cursor >= size()) {
+                    throw new NoSuchElementException();
+                }
+
+                return get(cursor++);
+            }
+        };
+    }
+
+    @Override
+    public void add(T element) {
+        throw unsupported();
+    }
+
+    @Override
+    public void add(T element, int position) {
+        throw unsupported();
+    }
+
+    @Override
+    public void addAll(Collection<? super T> elements) {
+        throw unsupported();
+    }
+
+    @Override
+    public void addAll(Collection<? super T> elements, int position) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean remove(int position) {
+        throw unsupported();
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        throw unsupported();
+    }
+
+    @Override
+    public void clear() {
+        throw unsupported();
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+
+        for (T element : this) {
+            joiner.add(String.valueOf(element));
+        }
+
+        return joiner.toString();
+    }
+
+    /**
+     * Check the position against the size of the view, and that the list wasn't structurally modified.
+     *
+     * @param position the position to be read.
+     */
+    final void checkPosition(int position) {
+        if (position < 0 || position >= size()) {
+            throw new IndexOutOfBoundsException("Index out of range.");
+        }
+
+        checkForComodification();
+    }
+
+    final void checkForComodification() {
+        if (root.modCount() != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("View is read-only.");
+    }
+}
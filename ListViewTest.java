@@ -0,0 +1,135 @@
+package Coding.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.security.InvalidParameterException;
+import java.util.ConcurrentModificationException;
+import java.util.ListIterator;
+
+public class ListViewTest {
+
+    private ArrayList<Integer> list;
+
+    @Before
+    public void before() {
+        list = new ArrayList<>();
+
+        for (int i = 0; i < 20; i++) {
+            list.add(i);
+        }
+    }
+
+    @Test
+    public void testSubList() {
+        ListView<Integer> view = list.subList(5, 10);
+
+        Assert.assertEquals(5, view.size());
+        Assert.assertEquals("[5, 6, 7, 8, 9]", view.toString());
+        Assert.assertEquals("[6, 7]", view.subList(1, 3).toString());
+        Assert.assertEquals(2, view.indexOf(7));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testSubListOutOfRange() {
+        list.subList(5, 10).get(5);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testSubListWithInvalidRange() {
+        list.subList(10, 21);
+    }
+
+    @Test
+    public void testMappedAndFiltered() {
+        ListView<String> view = list
+            .filtered(element -> element % 3 == 0)
+            .mapped(element -> element * 10)
+            .mapped(element -> "#" + element);
+
+        Assert.assertEquals(7, view.size());
+        Assert.assertEquals("[#0, #30, #60, #90, #120, #150, #180]", view.toString());
+        Assert.assertEquals("[#60, #90]", view.subList(2, 4).toString());
+    }
+
+    @Test
+    public void testFilteredIsEvaluatedOnce() {
+        int[] tests = new int[1];
+        ListView<Integer> view = list.filtered(element -> {
+            tests[0]++;
+            return element % 2 == 0;
+        });
+
+        Assert.assertEquals(0, tests[0]);
+        Assert.assertEquals(Integer.valueOf(18), view.get(9));
+        Assert.assertEquals(Integer.valueOf(0), view.get(0));
+        Assert.assertEquals(20, tests[0]);
+    }
+
+    @Test
+    public void testFilteredAfterReplacingElements() {
+        ListView<Integer> view = list.subList(0, 5).filtered(element -> element % 2 == 0);
+
+        Assert.assertEquals("[0, 2, 4]", view.toString());
+
+        list.set(7, 0);
+
+        Assert.assertEquals("[2, 4]", view.toString());
+
+        ListIterator<Integer> iterator = list.listIterator();
+        iterator.next();
+        iterator.next();
+        iterator.set(6);
+
+        Assert.assertEquals("[6, 2, 4]", view.toString());
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testFilteredAfterReplaceAll() {
+        ListView<Integer> view = list.filtered(element -> element % 2 == 0);
+        view.size();
+        list.replaceAll(element -> element + 1);
+
+        view.size();
+    }
+
+    @Test
+    public void testMaterialize() {
+        ArrayList<Integer> range = list.subList(3, 7).materialize();
+
+        Assert.assertEquals(4, range.size());
+        Assert.assertEquals(4, range.capacity());
+        Assert.assertEquals(Integer.valueOf(3), range.get(0));
+        Assert.assertEquals(Integer.valueOf(6), range.get(3));
+
+        ArrayList<Integer> mapped = list.subList(3, 7).mapped(element -> -element).materialize();
+
+        Assert.assertEquals(4, mapped.capacity());
+        Assert.assertEquals(Integer.valueOf(-6), mapped.get(3));
+
+        range.add(7);
+
+        Assert.assertEquals(5, range.size());
+        Assert.assertEquals(Integer.valueOf(7), list.get(7));
+        Assert.assertTrue(list.subList(0, 0).materialize().isEmpty());
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void testReadAfterStructuralModification() {
+        ListView<Integer> view = list.subList(0, 5).mapped(element -> element + 1);
+        list.add(20);
+
+        view.get(0);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testViewIsReadOnly() {
+        list.subList(0, 5).add(1);
+    }
+
+    @Test(expected = InvalidParameterException.class)
+    public void testMappedWithNullFunction() {
+        list.mapped(null);
+    }
+}
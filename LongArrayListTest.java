@@ -0,0 +1,227 @@
+package Coding.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+public class LongArrayListTest {
+
+    private LongArrayList list;
+
+    @Before
+    public void before() {
+        list = new LongArrayList();
+    }
+
+    @Test(expected = InvalidParameterException.class)
+    public void testSizeAfterInitWithNegativeSizeParamConstruct() {
+        list = new LongArrayList(-1);
+    }
+
+    @Test
+    public void testAddFunctionality() {
+        Assert.assertTrue(list.isEmpty());
+
+        for (int i = 0; i < 100; i++) {
+            list.addLong(i);
+        }
+
+        Assert.assertEquals(100, list.size());
+
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(i, list.getLong(i));
+        }
+    }
+
+    @Test
+    public void testAddInPosition() {
+        list.addLong(1);
+        list.addLong(3);
+        list.addLong(2, 1);
+        list.addLong(0, 0);
+
+        Assert.assertArrayEquals(new long[] {0, 1, 2, 3}, list.toArray());
+    }
+
+    @Test
+    public void testAddInPositionTriggeringResizing() {
+        for (int i = 0; i < 50; i++) {
+            list.addLong(i, 0);
+        }
+
+        Assert.assertEquals(50, list.size());
+        Assert.assertEquals(49, list.getLong(0));
+        Assert.assertEquals(0, list.getLong(49));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testAddInPositivePositionOutOfRange() {
+        list.addLong(1, 1);
+    }
+
+    @Test
+    public void testAddAll() {
+        list.addLong(-1);
+        list.addAll(new long[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+
+        Assert.assertEquals(13, list.size());
+        Assert.assertEquals(-1, list.getLong(0));
+        Assert.assertEquals(12, list.getLong(12));
+    }
+
+    @Test
+    public void testElementRemoval() {
+        list.addAll(new long[] {1, 2, 3});
+
+        Assert.assertTrue(list.remove(0));
+        Assert.assertFalse(list.remove(2));
+        Assert.assertArrayEquals(new long[] {2, 3}, list.toArray());
+
+        Assert.assertTrue(list.remove(1));
+        Assert.assertArrayEquals(new long[] {2}, list.toArray());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetElementOutOfRange() {
+        list.addLong(1);
+        list.getLong(1);
+    }
+
+    @Test
+    public void testClear() {
+        list.addAll(new long[] {1, 2, 3});
+        list.clear();
+
+        Assert.assertTrue(list.isEmpty());
+
+        list.addLong(4);
+
+        Assert.assertArrayEquals(new long[] {4}, list.toArray());
+    }
+
+    @Test
+    public void testIterateThroughElements() {
+        list.addAll(new long[] {1, 2, 3});
+
+        PrimitiveIterator.OfLong iterator = list.iterator();
+        long sum = 0;
+
+        while (iterator.hasNext()) {
+            sum += iterator.nextLong();
+        }
+
+        Assert.assertEquals(6, sum);
+
+        long[] forEachSum = new long[1];
+        list.forEach(element -> forEachSum[0] += element);
+
+        Assert.assertEquals(6, forEachSum[0]);
+    }
+
+    @Test
+    public void testWriteToAndReadFrom() throws IOException {
+        for (int i = 0; i < 50_000; i++) {
+            list.addLong(i * 3_000_000_000L);
+        }
+
+        Path file = Files.createTempFile("list", ".bin");
+        LongArrayList read;
+
+        try {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                list.writeTo(channel);
+            }
+
+            Assert.assertEquals(16 + 50_000 * Long.BYTES, Files.size(file));
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                read = LongArrayList.readFrom(channel);
+            }
+        } finally {
+            Files.delete(file);
+        }
+
+        Assert.assertEquals(50_000, read.size());
+
+        for (int i = 0; i < 50_000; i++) {
+            Assert.assertEquals(list.getLong(i), read.getLong(i));
+        }
+    }
+
+    @Test
+    public void testWriteToAndReadFromEmptyStream() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        list.writeTo(Channels.newChannel(out));
+
+        Assert.assertEquals(16, out.size());
+
+        LongArrayList read = LongArrayList.readFrom(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())));
+
+        Assert.assertTrue(read.isEmpty());
+    }
+
+    @Test(expected = IOException.class)
+    public void testReadFromDifferentType() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new DoubleArrayList().writeTo(Channels.newChannel(out));
+
+        LongArrayList.readFrom(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())));
+    }
+
+    @Test
+    public void testSortSmallList() {
+        list.addAll(new long[]{3L, -1L, 2L, 0L});
+        list.sort();
+
+        Assert.assertArrayEquals(new long[]{-1L, 0L, 2L, 3L}, list.toArray());
+        Assert.assertEquals(2, list.binarySearch(2L));
+        Assert.assertEquals(-3, list.binarySearch(1L));
+    }
+
+    @Test
+    public void testSortBigList() {
+        Random random = new Random(18);
+        long[] values = new long[100_000];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextLong();
+        }
+
+        list.addAll(values);
+        list.addAll(new long[]{Long.MIN_VALUE, Long.MAX_VALUE, 0L, -1L});
+        list.sort();
+
+        long[] expected = Arrays.copyOf(list.toArray(), list.size());
+        Arrays.sort(expected);
+
+        Assert.assertArrayEquals(expected, list.toArray());
+    }
+
+    @Test
+    public void testParallelSort() {
+        Random random = new Random(18);
+
+        for (int i = 0; i < 100_000; i++) {
+            list.addLong(random.nextLong());
+        }
+
+        long[] expected = list.toArray();
+        Arrays.sort(expected);
+        list.parallelSort();
+
+        Assert.assertArrayEquals(expected, list.toArray());
+    }
+}
@@ -0,0 +1,32 @@
+package Coding.List;
+
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+
+/**
+ * Primitive counterpart of {@link List}, which never boxes the elements.
+ */
+public interface LongList {
+
+    boolean isEmpty();
+
+    int size();
+
+    void addLong(long element);
+
+    void addLong(long element, int position);
+
+    void addAll(long[] elements);
+
+    boolean remove(int position);
+
+    void clear();
+
+    long getLong(int position);
+
+    long[] toArray();
+
+    PrimitiveIterator.OfLong iterator();
+
+    void forEach(LongConsumer action);
+}
@@ -0,0 +1,398 @@
+package Coding.List;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.InvalidParameterException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.StringJoiner;
+
+/**
+ * Single-threaded list laying its elements out in a memory-mapped file through a fixed-width {@link Codec},
+ * so that it can be reopened after a restart without loading anything - the elements are read straight
+ * from the page cache.
+ *
+ * <p>
+ *     <i>
+ *         The file starts with a header holding the element count together with its complement.
+ *         The header is only rewritten by {@link #force()} (and {@link #close()}), after the elements
+ *         themselves have been flushed. The mapping is limited to <code>Integer.MAX_VALUE</code> bytes.
+ *     </i>
+ * </p>
+ *
+ * <p>
+ *     <i>
+ *         If the list is only appended to between checkpoints, the file is reopened after a crash with the state
+ *         of the last checkpoint - the appended bytes lie past the published count. <code>add(T, int)</code>,
+ *         <code>remove(int)</code> and adding after <code>clear()</code> overwrite the elements of the last
+ *         checkpoint in place, and the OS may write those pages out at any time, so after a crash
+ *         the checkpointed elements may be partially modified.
+ *     </i>
+ * </p>
+ *
+ * @param <T>
+ */
+public class MappedFileList<T> implements List<T>, AutoCloseable {
+
+    /**
+     * Initial capacity in elements of a newly created file.
+     */
+    private final static int DEFAULT_SIZE = 10;
+
+    /**
+     * The factor by which the capacity grows when the mapping is full.
+     */
+    private final static int RESIZING_FACTOR = 2;
+
+    /**
+     * Identifies the files created by this class, "MLST".
+     */
+    private final static int MAGIC = 0x4D4C5354;
+
+    private final static int VERSION = 1;
+
+    /**
+     * Magic, version, width and a reserved int, followed by the count and its complement.
+     */
+    private final static int HEADER_SIZE = 32;
+
+    private final static int COUNT_OFFSET = 16;
+
+    private final static int COUNT_CHECK_OFFSET = 24;
+
+    private final Codec<T> codec;
+
+    /**
+     * The number of bytes every element occupies.
+     */
+    private final int width;
+
+    private final FileChannel channel;
+
+    /**
+     * The internal elements counter, which can be ahead of the count stored in the header.
+     */
+    private int index;
+
+    /**
+     * The mapping of the whole file, NULL after the list has been closed.
+     */
+    private MappedByteBuffer buffer;
+
+    /**
+     * Open the file, creating it when it doesn't exist yet.
+     *
+     * @param file the location of the list.
+     * @param codec the fixed-width representation of the elements.
+     * @throws IOException when the file cannot be mapped or wasn't written with the same codec width.
+     * @throws InvalidParameterException when any of the arguments is NULL.
+     */
+    public MappedFileList(Path file, Codec<T> codec) throws IOException {
+        if (file == null || codec == null) {
+            throw new InvalidParameterException("NULL cannot be provided as an argument.");
+        }
+
+        this.codec = codec;
+        this.width = codec.width();
+
+        if (width <= 0) {
+            throw new InvalidParameterException("Codec width should be bigger than 0.");
+        }
+
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        try {
+            long fileSize = channel.size();
+
+            if (fileSize == 0) {
+                buffer = map(HEADER_SIZE + (long) DEFAULT_SIZE * width);
+                buffer.putInt(0, MAGIC);
+                buffer.putInt(4, VERSION);
+                buffer.putInt(8, width);
+                writeCount(0);
+            } else {
+                buffer = map(fileSize);
+                index = readHeader(fileSize);
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public int size() {
+        return index;
+    }
+
+    public boolean isEmpty() {
+        return index == 0;
+    }
+
+    /**
+     * The number of elements which fit in the current mapping.
+     *
+     * @return the capacity in elements.
+     */
+    public int capacity() {
+        return (buffer().capacity() - HEADER_SIZE) / width;
+    }
+
+    /**
+     * Adds an element, growing the file and its mapping if necessary.
+     *
+     * @param element represents the entity that will be added in the list.
+     */
+    public void add(T element) {
+        ensureCapacity(index + 1);
+
+        codec.write(buffer, offset(index), element);
+        index++;
+    }
+
+    /**
+     * Adds an element in a specified position, shifting the bytes of all elements after it to the right.
+     * The elements of the last checkpoint are overwritten in place, before the next one.
+     *
+     * @param element represents the entity that will be added in the list.
+     * @param position is the specified index at which it will be added.
+     * @throws IndexOutOfBoundsException when the position to be added is out of bounds.
+     */
+    public void add(T element, int position) {
+        if (position < 0 || position > index) {
+            throw new IndexOutOfBoundsException("Index out of range.");
+        }
+
+        ensureCapacity(index + 1);
+
+        if (position != index) {
+            buffer.put(offset(position + 1), buffer, offset(position), (index - position) * width);
+        }
+
+        codec.write(buffer, offset(position), element);
+        index++;
+    }
+
+    /**
+     * Adds a collection of elements, growing the mapping at most once.
+     *
+     * @param collection is the set of element that will be provided as an argument.
+     * @throws InvalidParameterException if the collection is NULL
+     */
+    @SuppressWarnings("unchecked")
+    public void addAll(Collection<? super T> collection) {
+        if (collection == null) {
+            throw new InvalidParameterException("NULL cannot be passed as collection argument.");
+        }
+
+        ensureCapacity(index + collection.size());
+
+        for (Object element : collection) {
+            add((T) element);
+        }
+    }
+
+    /**
+     * Remove an element corresponding to the provided position, shifting the bytes of all elements after it
+     * to the left. The elements of the last checkpoint are overwritten in place, before the next one.
+     *
+     * @param position is the index that holds the element to be removed.
+     * @return true if the element was deleted, false otherwise
+     */
+    public boolean remove(int position) {
+        MappedByteBuffer buffer = buffer();
+
+        if (position < 0 || position >= index) {
+            return false;
+        }
+
+        if (position != --index) {
+            buffer.put(offset(position), buffer, offset(position + 1), (index - position) * width);
+        }
+
+        return true;
+    }
+
+    /**
+     * Clears all elements, keeping the size of the file. The elements added afterwards overwrite
+     * the ones of the last checkpoint in place, before the next one.
+     */
+    public void clear() {
+        buffer();
+        index = 0;
+    }
+
+    /**
+     * Get an element corresponding to a certain position, decoding it from the mapping.
+     *
+     * @param position is the index from which the element will be taken.
+     * @return the element
+     * @throws IndexOutOfBoundsException if the position is not in the defined range.
+     */
+    public T get(int position) {
+        MappedByteBuffer buffer = buffer();
+
+        if (position < 0 || position >= index) {
+            throw new IndexOutOfBoundsException("Index out of range.");
+        }
+
+        return codec.read(buffer, offset(position));
+    }
+
+    /**
+     * Checkpoint the list: flush the elements to the storage device and only then publish their count in the header.
+     * A crash before it loses the elements appended since the previous checkpoint, but keeps the previous
+     * checkpoint intact only if none of its elements was overwritten in place.
+     */
+    public void force() {
+        MappedByteBuffer buffer = buffer();
+
+        buffer.force(HEADER_SIZE, index * width);
+
+        writeCount(index);
+        buffer.force(0, HEADER_SIZE);
+    }
+
+    /**
+     * Checkpoint the list and release the mapping and the file.
+     */
+    @Override
+    public void close() throws IOException {
+        if (buffer == null) {
+            return;
+        }
+
+        try {
+            force();
+        } finally {
+            DirectBuffers.free(buffer);
+            buffer = null;
+            channel.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+
+        for (T element : this) {
+            joiner.add(String.valueOf(element));
+        }
+
+        return joiner.toString();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+
+            int idx = 0;
+
+            @Override
+            public boolean hasNext() {
+                return idx < index;
+            }
+
+            @Override
+            public T next() {
+                if (idx >= index) {
+                    throw new NoSuchElementException();
+                }
+
+                return codec.read(buffer(), offset(idx++));
+            }
+        };
+    }
+
+    /**
+     * Validate the header of an existing file.
+     *
+     * @param fileSize the size of the mapped file.
+     * @return the count of the last checkpoint.
+     * @throws IOException when the header is not valid or doesn't match the codec.
+     */
+    private int readHeader(long fileSize) throws IOException {
+        if (fileSize < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a list file.");
+        }
+
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported list file version.");
+        }
+
+        if (buffer.getInt(8) != width) {
+            throw new IOException("The file was written with a different element width.");
+        }
+
+        long count = buffer.getLong(COUNT_OFFSET);
+
+        if (count != ~buffer.getLong(COUNT_CHECK_OFFSET) || count < 0 || HEADER_SIZE + count * width > fileSize) {
+            throw new IOException("Corrupted list file header.");
+        }
+
+        return (int) count;
+    }
+
+    private void writeCount(int count) {
+        buffer.putLong(COUNT_OFFSET, count);
+        buffer.putLong(COUNT_CHECK_OFFSET, ~(long) count);
+    }
+
+    /**
+     * Make sure the requested number of elements fit, growing the file and mapping it again if not.
+     *
+     * @param elements the number of elements that should fit.
+     */
+    private void ensureCapacity(int elements) {
+        int capacity = capacity();
+
+        if (elements <= capacity) {
+            return;
+        }
+
+        long maxElements = (Integer.MAX_VALUE - HEADER_SIZE) / width;
+
+        if (elements > maxElements) {
+            throw new OutOfMemoryError("Required mapping size is too large.");
+        }
+
+        long newCapacity = Math.max((long) capacity * RESIZING_FACTOR, DEFAULT_SIZE);
+
+        while (newCapacity < elements) {
+            newCapacity *= RESIZING_FACTOR;
+        }
+
+        try {
+            MappedByteBuffer resized = map(HEADER_SIZE + Math.min(newCapacity, maxElements) * width);
+
+            DirectBuffers.free(buffer);
+            buffer = resized;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private MappedByteBuffer map(long size) throws IOException {
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        mapped.order(ByteOrder.LITTLE_ENDIAN);
+
+        return mapped;
+    }
+
+    private int offset(int position) {
+        return HEADER_SIZE + position * width;
+    }
+
+    private MappedByteBuffer buffer() {
+        if (buffer == null) {
+            throw new IllegalStateException("List is closed.");
+        }
+
+        return buffer;
+    }
+}
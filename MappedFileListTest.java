@@ -0,0 +1,91 @@
+package Coding.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class MappedFileListTest {
+
+    private Path file;
+
+    @Before
+    public void before() throws IOException {
+        file = Files.createTempFile("mapped-list", ".bin");
+        Files.delete(file);
+    }
+
+    @After
+    public void after() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testAddTriggeringResizing() throws IOException {
+        try (MappedFileList<Long> list = new MappedFileList<>(file, Codec.LONG)) {
+            Assert.assertTrue(list.isEmpty());
+            Assert.assertEquals(10, list.capacity());
+
+            for (long i = 0; i < 25; i++) {
+                list.add(i);
+            }
+
+            list.add(-1L, 0);
+            list.remove(1);
+
+            Assert.assertEquals(25, list.size());
+            Assert.assertEquals(40, list.capacity());
+            Assert.assertEquals(Long.valueOf(-1), list.get(0));
+            Assert.assertEquals(Long.valueOf(24), list.get(24));
+        }
+    }
+
+    @Test
+    public void testReopen() throws IOException {
+        try (MappedFileList<Long> list = new MappedFileList<>(file, Codec.LONG)) {
+            list.addAll(List.of(1L, 2L, 3L));
+        }
+
+        try (MappedFileList<Long> list = new MappedFileList<>(file, Codec.LONG)) {
+            Assert.assertEquals(3, list.size());
+            Assert.assertEquals("[1, 2, 3]", list.toString());
+
+            list.add(4L);
+        }
+
+        try (MappedFileList<Long> list = new MappedFileList<>(file, Codec.LONG)) {
+            Assert.assertEquals("[1, 2, 3, 4]", list.toString());
+        }
+    }
+
+    @Test
+    public void testReopenSeesLastCheckpoint() throws IOException {
+        try (MappedFileList<Long> list = new MappedFileList<>(file, Codec.LONG)) {
+            list.addAll(List.of(1L, 2L));
+            list.force();
+            list.add(3L);
+
+            try (MappedFileList<Long> reopened = new MappedFileList<>(file, Codec.LONG)) {
+                Assert.assertEquals(2, reopened.size());
+                Assert.assertEquals("[1, 2]", reopened.toString());
+            }
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testReopenWithDifferentWidth() throws IOException {
+        new MappedFileList<>(file, Codec.LONG).close();
+        new MappedFileList<>(file, Codec.INT).close();
+    }
+
+    @Test(expected = IOException.class)
+    public void testOpenForeignFile() throws IOException {
+        Files.write(file, new byte[64]);
+        new MappedFileList<>(file, Codec.LONG).close();
+    }
+}
@@ -0,0 +1,43 @@
+package Coding.List;
+
+import java.security.InvalidParameterException;
+import java.util.function.Function;
+
+/**
+ * View transforming the elements of another view when they are read. Mapping it again composes the functions,
+ * instead of stacking another view.
+ *
+ * @param <S> the type of the source elements.
+ * @param <T>
+ */
+final class MappedView<S, T> extends ListView<T> {
+
+    private final ListView<S> source;
+
+    private final Function<? super S, ? extends T> function;
+
+    MappedView(ListView<S> source, Function<? super S, ? extends T> function) {
+        super(source.root, source.expectedModCount);
+        this.source = source;
+        this.function = function;
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    @Override
+    public T get(int position) {
+        return function.apply(source.get(position));
+    }
+
+    @Override
+    public <R> ListView<R> mapped(Function<? super T, ? extends R> next) {
+        if (next == null) {
+            throw new InvalidParameterException("NULL cannot be passed as function argument.");
+        }
+
+        return new MappedView<S, R>(source, element -> next.apply(function.apply(element)));
+    }
+}
@@ -0,0 +1,77 @@
+package Coding.List;
+
+import java.security.InvalidParameterException;
+
+/**
+ * Multiplies the capacity by a factor as many times as needed, so that the occupancy doesn't exceed the load factor.
+ */
+final class MultiplicativeGrowthPolicy implements GrowthPolicy {
+
+    static final MultiplicativeGrowthPolicy DOUBLING = new MultiplicativeGrowthPolicy(2, 75);
+
+    static final MultiplicativeGrowthPolicy ONE_AND_A_HALF = new MultiplicativeGrowthPolicy(1.5, 100);
+
+    private final double factor;
+
+    /**
+     * The maximum occupancy in percentages.
+     */
+    private final int loadFactor;
+
+    /**
+     * Whether the factor is 2, when the capacity is computed exactly with shifts.
+     */
+    private final boolean doubling;
+
+    MultiplicativeGrowthPolicy(double factor, int loadFactor) {
+        if (!(factor > 1)) {
+            throw new InvalidParameterException("Factor should be bigger than 1.");
+        }
+
+        if (loadFactor < 1 || loadFactor > 100) {
+            throw new InvalidParameterException("Load factor should be between 1 and 100.");
+        }
+
+        this.factor = factor;
+        this.loadFactor = loadFactor;
+        this.doubling = factor == 2;
+    }
+
+    @Override
+    public int limit(int capacity) {
+        return (int) ((long) capacity * loadFactor / 100);
+    }
+
+    @Override
+    public int minimumCapacity(int required) {
+        long capacity = (100L * required + loadFactor - 1) / loadFactor;
+
+        if (capacity > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Required array size too large.");
+        }
+
+        return (int) capacity;
+    }
+
+    @Override
+    public int grow(int capacity, int required) {
+        long minimum = minimumCapacity(required);
+        long base = Math.max(capacity, 1);
+
+        if (base >= minimum) {
+            return (int) base;
+        }
+
+        long grown;
+
+        if (doubling) {
+            long quotient = (minimum + base - 1) / base;
+            grown = base << (64 - Long.numberOfLeadingZeros(quotient - 1));
+        } else {
+            double steps = Math.ceil(Math.log((double) minimum / base) / Math.log(factor));
+            grown = Math.max(minimum, (long) Math.ceil(base * Math.pow(factor, steps)));
+        }
+
+        return (int) Math.min(grown, MAX_CAPACITY);
+    }
+}
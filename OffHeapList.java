@@ -0,0 +1,395 @@
+package Coding.List;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.security.InvalidParameterException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.StringJoiner;
+
+/**
+ * Single-threaded list keeping its elements serialized in native memory through a fixed-width {@link Codec},
+ * so that they are not visible to the garbage collector.
+ *
+ * <p>
+ *     <i>
+ *         The memory is released deterministically by {@link #close()}, after which the list cannot be used.
+ *         Since a direct buffer is addressed with an <code>int</code>, the list can hold up to
+ *         <code>Integer.MAX_VALUE / codec.width()</code> elements.
+ *     </i>
+ * </p>
+ *
+ * @param <T>
+ */
+public class OffHeapList<T> implements List<T>, AutoCloseable {
+
+    /**
+     * Initial capacity in elements, when such is not specified.
+     */
+    private final static int DEFAULT_SIZE = 10;
+
+    /**
+     * The factor by which the capacity grows when the buffer is full.
+     */
+    private final static int RESIZING_FACTOR = 2;
+
+    private final Codec<T> codec;
+
+    /**
+     * The number of bytes every element occupies.
+     */
+    private final int width;
+
+    /**
+     * The internal elements counter.
+     */
+    private int index = 0;
+
+    /**
+     * The native memory holding the elements, NULL after the list has been closed.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * Constructor allocating native memory for the default number of elements.
+     *
+     * @param codec the fixed-width representation of the elements.
+     * @see #DEFAULT_SIZE
+     */
+    public OffHeapList(Codec<T> codec) {
+        this(codec, DEFAULT_SIZE);
+    }
+
+    /**
+     * Constructor allowing users to customize their desired capacity, avoiding any further costly resizes.
+     *
+     * @param codec the fixed-width representation of the elements.
+     * @param initialSize the number of elements which fit before the first resize.
+     * @throws InvalidParameterException when the codec is NULL, or the initialSize is less than 0.
+     */
+    public OffHeapList(Codec<T> codec, int initialSize) {
+        if (codec == null) {
+            throw new InvalidParameterException("NULL cannot be provided as codec.");
+        }
+
+        if (initialSize < 0) {
+            throw new InvalidParameterException("Size cannot be less than 0.");
+        }
+
+        this.codec = codec;
+        this.width = codec.width();
+
+        if (width <= 0) {
+            throw new InvalidParameterException("Codec width should be bigger than 0.");
+        }
+
+        buffer = allocate(checkedCapacity(initialSize));
+    }
+
+    public int size() {
+        return index;
+    }
+
+    public boolean isEmpty() {
+        return index == 0;
+    }
+
+    /**
+     * The number of elements which fit in the currently allocated memory.
+     *
+     * @return the capacity in elements.
+     */
+    public int capacity() {
+        return buffer().capacity() / width;
+    }
+
+    /**
+     * Adds an element and allocates more native memory if necessary.
+     *
+     * @param element represents the entity that will be added in the list.
+     */
+    public void add(T element) {
+        ensureCapacity(index + 1);
+
+        codec.write(buffer, index * width, element);
+        index++;
+    }
+
+    /**
+     * Adds an element in a specified position, shifting the bytes of all elements after it to the right.
+     *
+     * @param element represents the entity that will be added in the list.
+     * @param position is the specified index at which it will be added.
+     * @throws IndexOutOfBoundsException when the position to be added is out of bounds.
+     */
+    public void add(T element, int position) {
+        if (position < 0 || position > index) {
+            throw new IndexOutOfBoundsException("Index out of range.");
+        }
+
+        ensureCapacity(index + 1);
+
+        if (position != index) {
+            int offset = position * width;
+            buffer.put(offset + width, buffer, offset, (index - position) * width);
+        }
+
+        codec.write(buffer, position * width, element);
+        index++;
+    }
+
+    /**
+     * Adds a collection of elements, growing the native memory at most once.
+     *
+     * @param collection is the set of element that will be provided as an argument.
+     * @throws InvalidParameterException if the collection is NULL
+     */
+    @SuppressWarnings("unchecked")
+    public void addAll(Collection<? super T> collection) {
+        if (collection == null) {
+            throw new InvalidParameterException("NULL cannot be passed as collection argument.");
+        }
+
+        ensureCapacity(index + collection.size());
+
+        for (Object element : collection) {
+            add((T) element);
+        }
+    }
+
+    /**
+     * Remove an element corresponding to the provided position.
+     *
+     * @param position is the index that holds the element to be removed.
+     * @return true if the element was deleted, false otherwise
+     */
+    public boolean remove(int position) {
+        ByteBuffer buffer = buffer();
+
+        if (position < 0 || position >= index) {
+            return false;
+        }
+
+        if (position != --index) {
+            int offset = position * width;
+            buffer.put(offset, buffer, offset + width, (index - position) * width);
+        }
+
+        return true;
+    }
+
+    /**
+     * Clears all elements, keeping the allocated native memory.
+     */
+    public void clear() {
+        buffer();
+        index = 0;
+    }
+
+    /**
+     * Get an element corresponding to a certain position, decoding it from the native memory.
+     *
+     * @param position is the index from which the element will be taken.
+     * @return the element
+     * @throws IndexOutOfBoundsException if the position is not in the defined range.
+     */
+    public T get(int position) {
+        ByteBuffer buffer = buffer();
+
+        if (position < 0 || position >= index) {
+            throw new IndexOutOfBoundsException("Index out of range.");
+        }
+
+        return codec.read(buffer, position * width);
+    }
+
+    /**
+     * Write the elements to a channel in the binary format of the lists.
+     *
+     * <p>
+     *     <i>
+     *         On little-endian platforms the native memory already holds the elements in that format,
+     *         so it's handed to the channel as it is, together with the header in a single gathering write.
+     *     </i>
+     * </p>
+     *
+     * @param channel the destination.
+     * @throws IOException when writing fails.
+     * @throws InvalidParameterException when the channel is NULL.
+     * @see #readFrom(ReadableByteChannel, Codec)
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        if (channel == null) {
+            throw new InvalidParameterException("NULL cannot be provided as an argument.");
+        }
+
+        ByteBuffer buffer = buffer();
+        ByteBuffer header = BinaryFormat.header(BinaryFormat.OBJECT, width, index);
+
+        if (buffer.order() == ByteOrder.LITTLE_ENDIAN) {
+            BinaryFormat.writeFully(channel, header, buffer.slice(0, index * width));
+            return;
+        }
+
+        ByteBuffer chunk = BinaryFormat.chunk(width);
+        int chunkElements = chunk.capacity() / width;
+        int from = 0;
+
+        do {
+            int count = Math.min(index - from, chunkElements);
+            chunk.clear();
+
+            for (int i = 0; i < count; i++) {
+                codec.write(chunk, i * width, codec.read(buffer, (from + i) * width));
+            }
+
+            chunk.limit(count * width);
+            BinaryFormat.writeFully(channel, header, chunk);
+            from += count;
+        } while (from < index);
+    }
+
+    /**
+     * Read a list written by {@link #writeTo(WritableByteChannel)} or {@link ArrayList#writeTo(WritableByteChannel, Codec)}
+     * straight into native memory allocated up front from the count in the header.
+     *
+     * @param channel the source, positioned at the start of the list.
+     * @param codec the representation the elements were written with.
+     * @param <T>
+     * @return the list.
+     * @throws IOException when the data is not a list written with the same element width, or reading fails.
+     * @throws InvalidParameterException when the channel or the codec is NULL.
+     */
+    public static <T> OffHeapList<T> readFrom(ReadableByteChannel channel, Codec<T> codec) throws IOException {
+        if (channel == null || codec == null) {
+            throw new InvalidParameterException("NULL cannot be provided as an argument.");
+        }
+
+        int width = codec.width();
+        int count = BinaryFormat.readHeader(channel, BinaryFormat.OBJECT, width);
+        OffHeapList<T> list = new OffHeapList<>(codec, count);
+
+        try {
+            if (list.buffer.order() == ByteOrder.LITTLE_ENDIAN) {
+                BinaryFormat.readFully(channel, list.buffer.slice(0, count * width));
+            } else {
+                ByteBuffer chunk = BinaryFormat.chunk(width);
+                int chunkElements = chunk.capacity() / width;
+
+                for (int from = 0; from < count; ) {
+                    int elements = Math.min(count - from, chunkElements);
+                    chunk.clear().limit(elements * width);
+                    BinaryFormat.readFully(channel, chunk);
+
+                    for (int i = 0; i < elements; i++) {
+                        codec.write(list.buffer, (from + i) * width, codec.read(chunk, i * width));
+                    }
+
+                    from += elements;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            list.close();
+            throw e;
+        }
+
+        list.index = count;
+
+        return list;
+    }
+
+    /**
+     * Release the native memory. Any further operation on the list throws {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        DirectBuffers.free(buffer);
+
+        buffer = null;
+        index = 0;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+
+        for (T element : this) {
+            joiner.add(String.valueOf(element));
+        }
+
+        return joiner.toString();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+
+            int idx = 0;
+
+            @Override
+            public boolean hasNext() {
+                return idx < index;
+            }
+
+            @Override
+            public T next() {
+                if (idx >= index) {
+                    throw new NoSuchElementException();
+                }
+
+                return codec.read(buffer(), width * idx++);
+            }
+        };
+    }
+
+    /**
+     * Make sure the requested number of elements fit, moving the content into a bigger block of native memory if not.
+     *
+     * @param elements the number of elements that should fit.
+     */
+    private void ensureCapacity(int elements) {
+        int capacity = capacity();
+
+        if (elements <= capacity) {
+            return;
+        }
+
+        checkedCapacity(elements);
+
+        long newCapacity = Math.max((long) capacity * RESIZING_FACTOR, DEFAULT_SIZE);
+
+        while (newCapacity < elements) {
+            newCapacity *= RESIZING_FACTOR;
+        }
+
+        ByteBuffer resized = allocate((int) Math.min(newCapacity, Integer.MAX_VALUE / width));
+        resized.put(0, buffer, 0, index * width);
+
+        DirectBuffers.free(buffer);
+        buffer = resized;
+    }
+
+    private int checkedCapacity(long elements) {
+        if (elements > Integer.MAX_VALUE / width) {
+            throw new OutOfMemoryError("Required off-heap size is too large.");
+        }
+
+        return (int) elements;
+    }
+
+    private ByteBuffer allocate(int elements) {
+        return ByteBuffer.allocateDirect(elements * width).order(ByteOrder.nativeOrder());
+    }
+
+    private ByteBuffer buffer() {
+        if (buffer == null) {
+            throw new IllegalStateException("List is closed.");
+        }
+
+        return buffer;
+    }
+}
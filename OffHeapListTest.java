@@ -0,0 +1,148 @@
+package Coding.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.InvalidParameterException;
+import java.util.List;
+
+public class OffHeapListTest {
+
+    private OffHeapList<Long> list;
+
+    @Before
+    public void before() {
+        list = new OffHeapList<>(Codec.LONG);
+    }
+
+    @After
+    public void after() {
+        list.close();
+    }
+
+    @Test(expected = InvalidParameterException.class)
+    public void testInitWithNullCodec() {
+        new OffHeapList<Long>(null);
+    }
+
+    @Test
+    public void testAddFunctionalityTriggeringResizing() {
+        Assert.assertTrue(list.isEmpty());
+        Assert.assertEquals(10, list.capacity());
+
+        for (long i = 0; i < 25; i++) {
+            list.add(i);
+        }
+
+        Assert.assertEquals(25, list.size());
+        Assert.assertEquals(40, list.capacity());
+
+        for (int i = 0; i < 25; i++) {
+            Assert.assertEquals(Long.valueOf(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void testAddInPosition() {
+        list.add(1L);
+        list.add(3L);
+        list.add(2L, 1);
+        list.add(0L, 0);
+
+        Assert.assertEquals("[0, 1, 2, 3]", list.toString());
+    }
+
+    @Test
+    public void testAddAllAndRemove() {
+        list.addAll(List.of(1L, 2L, 3L, 4L));
+
+        Assert.assertTrue(list.remove(0));
+        Assert.assertTrue(list.remove(1));
+        Assert.assertFalse(list.remove(2));
+
+        Assert.assertEquals("[2, 4]", list.toString());
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetElementOutOfRange() {
+        list.add(1L);
+        list.get(1);
+    }
+
+    @Test
+    public void testCustomCodec() {
+        Codec<String> codec = new Codec<>() {
+            public int width() {
+                return 2;
+            }
+
+            public void write(ByteBuffer buffer, int offset, String element) {
+                buffer.putChar(offset, element.charAt(0));
+            }
+
+            public String read(ByteBuffer buffer, int offset) {
+                return String.valueOf(buffer.getChar(offset));
+            }
+        };
+
+        try (OffHeapList<String> strings = new OffHeapList<>(codec, 0)) {
+            strings.add("a");
+            strings.add("b", 0);
+
+            Assert.assertEquals("b", strings.get(0));
+            Assert.assertEquals("a", strings.get(1));
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testUseAfterClose() {
+        list.add(1L);
+        list.close();
+        list.get(0);
+    }
+
+    @Test
+    public void testWriteToAndReadFrom() throws IOException {
+        for (long i = 0; i < 30_000; i++) {
+            list.add(i * i);
+        }
+
+        Path file = Files.createTempFile("list", ".bin");
+
+        try {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                list.writeTo(channel);
+            }
+
+            Assert.assertEquals(16 + 30_000 * Long.BYTES, Files.size(file));
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+                 OffHeapList<Long> read = OffHeapList.readFrom(channel, Codec.LONG)) {
+                Assert.assertEquals(30_000, read.size());
+                Assert.assertEquals(30_000, read.capacity());
+
+                for (int i = 0; i < 30_000; i++) {
+                    Assert.assertEquals(list.get(i), read.get(i));
+                }
+            }
+
+            // The same format as the heap lists
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                ArrayList<Long> read = ArrayList.readFrom(channel, Codec.LONG);
+
+                Assert.assertEquals(30_000, read.size());
+                Assert.assertEquals(Long.valueOf(29_999L * 29_999L), read.get(29_999));
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,423 @@
+package Coding.List;
+
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Immutable list whose modifications return new versions, sharing all unchanged parts with the previous ones.
+ *
+ * <p>
+ *     <i>
+ *         The elements are stored in a 32-way trie of arrays, with the last (up to) 32 elements kept in a separate
+ *         tail array. Appending copies only the tail, and once it's full, the path from the root to the new leaf -
+ *         so <code>plus</code>, <code>with</code> and <code>pop</code> copy O(log32 n) arrays of 32 elements,
+ *         and <code>get</code> follows at most 7 references for any possible size.
+ *     </i>
+ * </p>
+ *
+ * <p>
+ *     <i>
+ *         The <code>List</code> modifying operations throw <code>UnsupportedOperationException</code>,
+ *         as the versions themselves never change and can be shared with any thread.
+ *     </i>
+ * </p>
+ *
+ * @param <T>
+ */
+public final class PersistentVector<T> implements List<T> {
+
+    /**
+     * The number of bits of a position consumed by every level of the trie.
+     */
+    private final static int BITS = 5;
+
+    private final static int WIDTH = 1 << BITS;
+
+    private final static int MASK = WIDTH - 1;
+
+    private final static Object[] EMPTY_NODE = new Object[WIDTH];
+
+    private final static PersistentVector<?> EMPTY = new PersistentVector<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+
+    /**
+     * The number of bits the position is shifted by at the root level.
+     */
+    private final int shift;
+
+    private final Object[] root;
+
+    private final Object[] tail;
+
+    private PersistentVector(int size, int shift, Object[] root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * The empty vector.
+     *
+     * @param <T>
+     * @return the shared empty vector.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    /**
+     * A vector with the elements of a collection.
+     *
+     * @param collection the elements in iteration order.
+     * @param <T>
+     * @return the vector.
+     * @throws InvalidParameterException when <code>NULL</code> is provided.
+     */
+    public static <T> PersistentVector<T> from(Collection<? extends T> collection) {
+        if (collection == null) {
+            throw new InvalidParameterException("NULL cannot be provided as an argument.");
+        }
+
+        PersistentVector<T> vector = empty();
+
+        for (T element : collection) {
+            vector = vector.plus(element);
+        }
+
+        return vector;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int position) {
+        return (T) leafFor(position)[position & MASK];
+    }
+
+    /**
+     * A new version with an element appended.
+     *
+     * @param element the element.
+     * @return the new version.
+     */
+    public PersistentVector<T> plus(T element) {
+        if (size - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+
+        Object[] newRoot;
+        int newShift = shift;
+
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newRoot[1] = newPath(shift, tail);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tail);
+        }
+
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[]{element});
+    }
+
+    /**
+     * A new version with the element at a position replaced.
+     *
+     * @param element the new element.
+     * @param position the position of the replaced element.
+     * @return the new version.
+     * @throws IndexOutOfBoundsException when the position is out of bounds.
+     */
+    public PersistentVector<T> with(T element, int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Index out of range.");
+        }
+
+        if (position >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[position & MASK] = element;
+
+            return new PersistentVector<>(size, shift, root, newTail);
+        }
+
+        return new PersistentVector<>(size, shift, replace(shift, root, position, element), tail);
+    }
+
+    /**
+     * A new version without the last element.
+     *
+     * @return the new version.
+     * @throws IllegalStateException when the vector is empty.
+     */
+    public PersistentVector<T> pop() {
+        if (size == 0) {
+            throw new IllegalStateException("Vector is empty.");
+        }
+
+        if (size == 1) {
+            return empty();
+        }
+
+        if (size - tailOffset() > 1) {
+            return new PersistentVector<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+
+        Object[] newTail = leafFor(size - 2);
+        Object[] newRoot = popTail(shift, root);
+        int newShift = shift;
+
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+
+        if (shift > BITS && newRoot[1] == null) {
+            newRoot = (Object[]) newRoot[0];
+            newShift -= BITS;
+        }
+
+        return new PersistentVector<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    @Override
+    public int indexOf(T element) {
+        for (int leafStart = 0; leafStart < size; leafStart += WIDTH) {
+            Object[] leaf = leafFor(leafStart);
+
+            for (int i = 0, length = Math.min(WIDTH, size - leafStart); i < length; i++) {
+                if (Objects.equals(element, leaf[i])) {
+                    return leafStart + i;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Iterates leaf by leaf, following the trie only once per 32 elements.
+     *
+     * @return the iterator.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+
+            private int cursor = 0;
+
+            private Object[] leaf;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+
+                if ((cursor & MASK) == 0) {
+                    leaf = leafFor(cursor);
+                }
+
+                return (T) leaf[cursor++ & MASK];
+            }
+        };
+    }
+
+    @Override
+    public void add(T element) {
+        throw unsupported();
+    }
+
+    @Override
+    public void add(T element, int position) {
+        throw unsupported();
+    }
+
+    @Override
+    public void addAll(Collection<? super T> elements) {
+        throw unsupported();
+    }
+
+    @Override
+    public void addAll(Collection<? super T> elements, int position) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean remove(int position) {
+        throw unsupported();
+    }
+
+    @Override
+    public void removeRange(int from, int to) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        throw unsupported();
+    }
+
+    @Override
+    public void clear() {
+        throw unsupported();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+
+        for (T element : this) {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+
+            builder.append(element);
+        }
+
+        return builder.append(']').toString();
+    }
+
+    /**
+     * The position of the first element in the tail.
+     */
+    private int tailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    /**
+     * The leaf array holding the element at a position.
+     *
+     * @param position the position of the element.
+     * @return the tail or a leaf of the trie.
+     * @throws IndexOutOfBoundsException when the position is out of bounds.
+     */
+    private Object[] leafFor(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Index out of range.");
+        }
+
+        if (position >= tailOffset()) {
+            return tail;
+        }
+
+        Object[] node = root;
+
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(position >>> level) & MASK];
+        }
+
+        return node;
+    }
+
+    /**
+     * Copy the path to the last leaf, attaching the full tail as a new leaf.
+     */
+    private Object[] pushTail(int level, Object[] parent, Object[] tailNode) {
+        int subIndex = ((size - 1) >>> level) & MASK;
+        Object[] copy = parent.clone();
+        Object[] child = (Object[]) parent[subIndex];
+
+        if (level == BITS) {
+            copy[subIndex] = tailNode;
+        } else if (child != null) {
+            copy[subIndex] = pushTail(level - BITS, child, tailNode);
+        } else {
+            copy[subIndex] = newPath(level - BITS, tailNode);
+        }
+
+        return copy;
+    }
+
+    /**
+     * Create the chain of nodes leading from a level down to a leaf.
+     */
+    private static Object[] newPath(int level, Object[] leaf) {
+        if (level == 0) {
+            return leaf;
+        }
+
+        Object[] node = new Object[WIDTH];
+        node[0] = newPath(level - BITS, leaf);
+
+        return node;
+    }
+
+    /**
+     * Copy the path to the element at a position, replacing it.
+     */
+    private static Object[] replace(int level, Object[] node, int position, Object element) {
+        Object[] copy = node.clone();
+
+        if (level == 0) {
+            copy[position & MASK] = element;
+        } else {
+            int subIndex = (position >>> level) & MASK;
+            copy[subIndex] = replace(level - BITS, (Object[]) node[subIndex], position, element);
+        }
+
+        return copy;
+    }
+
+    /**
+     * Copy the path to the last leaf without it, or return NULL if nothing remains on that path.
+     */
+    private Object[] popTail(int level, Object[] node) {
+        int subIndex = ((size - 2) >>> level) & MASK;
+
+        if (level > BITS) {
+            Object[] child = popTail(level - BITS, (Object[]) node[subIndex]);
+
+            if (child == null && subIndex == 0) {
+                return null;
+            }
+
+            Object[] copy = node.clone();
+            copy[subIndex] = child;
+
+            return copy;
+        }
+
+        if (subIndex == 0) {
+            return null;
+        }
+
+        Object[] copy = node.clone();
+        copy[subIndex] = null;
+
+        return copy;
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("Vector is immutable.");
+    }
+}
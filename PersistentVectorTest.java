@@ -0,0 +1,148 @@
+package Coding.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Random;
+
+public class PersistentVectorTest {
+
+    @Test
+    public void testEmpty() {
+        PersistentVector<String> vector = PersistentVector.empty();
+
+        Assert.assertTrue(vector.isEmpty());
+        Assert.assertEquals(0, vector.size());
+        Assert.assertFalse(vector.iterator().hasNext());
+        Assert.assertEquals("[]", vector.toString());
+    }
+
+    @Test
+    public void testPlusKeepsPreviousVersions() {
+        PersistentVector<Integer> empty = PersistentVector.empty();
+        PersistentVector<Integer> one = empty.plus(1);
+        PersistentVector<Integer> two = one.plus(2);
+
+        Assert.assertEquals(0, empty.size());
+        Assert.assertEquals(1, one.size());
+        Assert.assertEquals(2, two.size());
+        Assert.assertEquals("[1, 2]", two.toString());
+    }
+
+    @Test
+    public void testGetAcrossLevels() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+
+        for (int i = 0; i < 40_000; i++) {
+            vector = vector.plus(i);
+        }
+
+        Assert.assertEquals(40_000, vector.size());
+
+        for (int i = 0; i < 40_000; i++) {
+            Assert.assertEquals(Integer.valueOf(i), vector.get(i));
+        }
+
+        int expected = 0;
+
+        for (Integer element : vector) {
+            Assert.assertEquals(Integer.valueOf(expected++), element);
+        }
+
+        Assert.assertEquals(40_000, expected);
+        Assert.assertEquals(33_000, vector.indexOf(33_000));
+        Assert.assertEquals(-1, vector.indexOf(-1));
+    }
+
+    @Test
+    public void testWithSharesUnchangedVersions() {
+        PersistentVector<Integer> vector = PersistentVector.from(Arrays.asList(0, 1, 2, 3, 4));
+
+        for (int i = 5; i < 2000; i++) {
+            vector = vector.plus(i);
+        }
+
+        PersistentVector<Integer> changed = vector.with(-1, 3).with(-2, 1999);
+
+        Assert.assertEquals(Integer.valueOf(3), vector.get(3));
+        Assert.assertEquals(Integer.valueOf(1999), vector.get(1999));
+        Assert.assertEquals(Integer.valueOf(-1), changed.get(3));
+        Assert.assertEquals(Integer.valueOf(-2), changed.get(1999));
+        Assert.assertEquals(Integer.valueOf(4), changed.get(4));
+    }
+
+    @Test
+    public void testPop() {
+        PersistentVector<Integer> vector = PersistentVector.empty();
+
+        for (int i = 0; i < 1100; i++) {
+            vector = vector.plus(i);
+        }
+
+        PersistentVector<Integer> popped = vector;
+
+        for (int i = 1099; i >= 0; i--) {
+            Assert.assertEquals(Integer.valueOf(i), popped.get(i));
+            popped = popped.pop();
+            Assert.assertEquals(i, popped.size());
+        }
+
+        Assert.assertTrue(popped.isEmpty());
+        Assert.assertEquals(1100, vector.size());
+        Assert.assertEquals(Integer.valueOf(1099), vector.get(1099));
+    }
+
+    @Test
+    public void testRandomOperationsMatchArrayList() {
+        Random random = new Random(42);
+        java.util.ArrayList<Integer> expected = new java.util.ArrayList<>();
+        PersistentVector<Integer> vector = PersistentVector.empty();
+
+        for (int i = 0; i < 20_000; i++) {
+            int operation = random.nextInt(10);
+
+            if (operation < 6 || expected.isEmpty()) {
+                expected.add(i);
+                vector = vector.plus(i);
+            } else if (operation < 8) {
+                int position = random.nextInt(expected.size());
+                expected.set(position, -i);
+                vector = vector.with(-i, position);
+            } else {
+                expected.remove(expected.size() - 1);
+                vector = vector.pop();
+            }
+        }
+
+        Assert.assertEquals(expected.size(), vector.size());
+
+        Iterator<Integer> iterator = vector.iterator();
+
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertEquals(expected.get(i), vector.get(i));
+            Assert.assertEquals(expected.get(i), iterator.next());
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfRange() {
+        PersistentVector.<Integer>empty().plus(1).get(1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testWithOutOfRange() {
+        PersistentVector.<Integer>empty().with(1, 0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testPopEmpty() {
+        PersistentVector.empty().pop();
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testIsImmutable() {
+        PersistentVector.<Integer>empty().add(1);
+    }
+}
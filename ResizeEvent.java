@@ -0,0 +1,28 @@
+package Coding.List;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event emitted for every resize of an instrumented list.
+ *
+ * @see ListStats
+ */
+@Name("Coding.List.Resize")
+@Label("List Resize")
+@Category("Coding.List")
+@Description("The backing array of a list was replaced, copying its elements.")
+final class ResizeEvent extends Event {
+
+    @Label("Old Capacity")
+    int oldCapacity;
+
+    @Label("New Capacity")
+    int newCapacity;
+
+    @Label("Copied Elements")
+    int copiedElements;
+}
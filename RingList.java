@@ -0,0 +1,453 @@
+package Coding.List;
+
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.StringJoiner;
+
+/**
+ * Simple single-threaded circular buffer, usable as a double-ended queue.
+ *
+ * <p>
+ *     <i>
+ *         The elements start at a head offset and wrap around the end of the backing array, so adding and removing
+ *         at both ends is O(1) - nothing is shifted when the first element is removed. <code>get</code> stays O(1),
+ *         and inserting or removing in the middle shifts only the elements on the shorter side of the position.
+ *     </i>
+ * </p>
+ *
+ * <p>
+ *     <i>
+ *         A {@link #bounded(int)} list never grows - once full, adding overwrites the element at the opposite end,
+ *         which makes it a fixed-size sliding window that doesn't allocate after construction.
+ *     </i>
+ * </p>
+ *
+ * @param <T>
+ */
+public class RingList<T> implements List<T> {
+
+    /**
+     * Initial array size, when such is not specified.
+     */
+    private final static int DEFAULT_SIZE = 10;
+
+    /**
+     * The factor by which the backing array grows when it's full.
+     */
+    private final static int RESIZING_FACTOR = 2;
+
+    /**
+     * The backing array, holding the elements from the head onwards, wrapping around its end.
+     */
+    private Object[] arr;
+
+    /**
+     * The slot of the first element.
+     */
+    private int head = 0;
+
+    /**
+     * The number of elements.
+     */
+    private int size = 0;
+
+    /**
+     * Whether the oldest elements are overwritten instead of growing the backing array.
+     */
+    private final boolean bounded;
+
+    /**
+     * Default constructor initializing the backing array with default size.
+     *
+     * @see #DEFAULT_SIZE
+     */
+    public RingList() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * Constructor allowing users to customize their desired size, avoiding any further costly resizes.
+     *
+     * @param initialSize represents the desired size that will be initialized at first.
+     * @throws InvalidParameterException when the initialSize is less than 0.
+     */
+    public RingList(int initialSize) {
+        this(initialSize, false);
+    }
+
+    private RingList(int initialSize, boolean bounded) {
+        if (initialSize < 0) {
+            throw new InvalidParameterException("Size cannot be less than 0.");
+        }
+
+        arr = new Object[initialSize];
+        this.bounded = bounded;
+    }
+
+    /**
+     * Create a list holding at most a fixed number of elements. Once it's full, appending overwrites the first
+     * element and prepending overwrites the last one.
+     *
+     * @param capacity the maximum number of elements, allocated upfront.
+     * @param <T> the type of the elements.
+     * @return the empty list.
+     * @throws InvalidParameterException when the capacity is less than 1.
+     */
+    public static <T> RingList<T> bounded(int capacity) {
+        if (capacity < 1) {
+            throw new InvalidParameterException("Capacity cannot be less than 1.");
+        }
+
+        return new RingList<>(capacity, true);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * The number of elements the list can hold without growing, or at all if it's bounded.
+     *
+     * @return the length of the backing array.
+     */
+    public int capacity() {
+        return arr.length;
+    }
+
+    /**
+     * Appends an element.
+     *
+     * @param element represents the entity that will be added in the list.
+     * @see #addLast(Object)
+     */
+    public void add(T element) {
+        addLast(element);
+    }
+
+    /**
+     * Appends an element in O(1). A full bounded list overwrites its first element.
+     *
+     * @param element represents the entity that will be added in the list.
+     */
+    public void addLast(T element) {
+        if (size == arr.length) {
+            if (bounded) {
+                arr[head] = element;
+                head = slot(1);
+                return;
+            }
+
+            grow(size + 1);
+        }
+
+        arr[slot(size)] = element;
+        size++;
+    }
+
+    /**
+     * Prepends an element in O(1). A full bounded list overwrites its last element.
+     *
+     * @param element represents the entity that will be added in the list.
+     */
+    public void addFirst(T element) {
+        if (size == arr.length) {
+            if (bounded) {
+                size--;
+            } else {
+                grow(size + 1);
+            }
+        }
+
+        head = head == 0 ? arr.length - 1 : head - 1;
+        arr[head] = element;
+        size++;
+    }
+
+    /**
+     * Adds an element in a specified position, shifting the elements on the shorter side of it.
+     * A full bounded list overwrites its first element, unless the element is prepended.
+     *
+     * @param element represents the entity that will be added in the list.
+     * @param position is the specified index at which it will be added.
+     * @throws IndexOutOfBoundsException when the position to be added is out of bounds.
+     */
+    public void add(T element, int position) {
+        if (position < 0 || position > size) {
+            throw new IndexOutOfBoundsException("Index out of range.");
+        }
+
+        if (position == 0) {
+            addFirst(element);
+            return;
+        }
+
+        if (size == arr.length) {
+            if (bounded) {
+                removeFirst();
+                position--;
+            } else {
+                grow(size + 1);
+            }
+        }
+
+        if (position < size / 2) {
+            head = head == 0 ? arr.length - 1 : head - 1;
+
+            for (int i = 0; i < position; i++) {
+                arr[slot(i)] = arr[slot(i + 1)];
+            }
+        } else {
+            for (int i = size; i > position; i--) {
+                arr[slot(i)] = arr[slot(i - 1)];
+            }
+        }
+
+        arr[slot(position)] = element;
+        size++;
+    }
+
+    /**
+     * Appends a collection of elements, growing the backing array at most once.
+     * A bounded list keeps only the last elements which fit.
+     *
+     * @param collection is the set of element that will be provided as an argument.
+     * @throws InvalidParameterException if the collection is NULL
+     */
+    public void addAll(Collection<? super T> collection) {
+        if (collection == null) {
+            throw new InvalidParameterException("NULL cannot be passed as collection argument.");
+        }
+
+        Object[] elements = collection.toArray();
+        int from = 0;
+
+        if (size + elements.length > arr.length) {
+            if (bounded) {
+                from = Math.max(0, elements.length - arr.length);
+                evictFirst(size + elements.length - from - arr.length);
+            } else {
+                grow(size + elements.length);
+            }
+        }
+
+        int count = elements.length - from;
+        int tail = slot(size);
+        int first = Math.min(count, arr.length - tail);
+
+        System.arraycopy(elements, from, arr, tail, first);
+        System.arraycopy(elements, from + first, arr, 0, count - first);
+        size += count;
+    }
+
+    /**
+     * Remove an element corresponding to the provided position, shifting the elements on the shorter side of it.
+     *
+     * @param position is the index that holds the element to be removed.
+     * @return true if the element was deleted, false otherwise
+     */
+    public boolean remove(int position) {
+        if (position < 0 || position >= size) {
+            return false;
+        }
+
+        if (position < size / 2) {
+            for (int i = position; i > 0; i--) {
+                arr[slot(i)] = arr[slot(i - 1)];
+            }
+
+            arr[head] = null;
+            head = slot(1);
+        } else {
+            for (int i = position; i < size - 1; i++) {
+                arr[slot(i)] = arr[slot(i + 1)];
+            }
+
+            arr[slot(size - 1)] = null;
+        }
+
+        size--;
+
+        return true;
+    }
+
+    /**
+     * Remove the first element in O(1).
+     *
+     * @return the removed element.
+     * @throws NoSuchElementException when the list is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public T removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        T element = (T) arr[head];
+        arr[head] = null;
+        head = slot(1);
+        size--;
+
+        return element;
+    }
+
+    /**
+     * Remove the last element in O(1).
+     *
+     * @return the removed element.
+     * @throws NoSuchElementException when the list is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public T removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        int last = slot(--size);
+        T element = (T) arr[last];
+        arr[last] = null;
+
+        return element;
+    }
+
+    /**
+     * Clears all elements within the list, keeping the backing array.
+     */
+    public void clear() {
+        evictFirst(size);
+        head = 0;
+    }
+
+    /**
+     * Get an element corresponding to a certain position.
+     *
+     * @param position is the index from which the element will be taken.
+     * @return the element
+     * @throws IndexOutOfBoundsException if the position is not in the defined range.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Index out of range.");
+        }
+
+        return (T) arr[slot(position)];
+    }
+
+    /**
+     * Get the first element.
+     *
+     * @return the element
+     * @throws NoSuchElementException when the list is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public T getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return (T) arr[head];
+    }
+
+    /**
+     * Get the last element.
+     *
+     * @return the element
+     * @throws NoSuchElementException when the list is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public T getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return (T) arr[slot(size - 1)];
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+
+        for (T element : this) {
+            joiner.add(String.valueOf(element));
+        }
+
+        return joiner.toString();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+
+            int idx = 0;
+
+            @Override
+            public boolean hasNext() {
+                return idx < size;
+            }
+
+            @Override
+            public T next() {
+                if (idx >= size) {
+                    throw new NoSuchElementException();
+                }
+
+                return get(idx++);
+            }
+        };
+    }
+
+    /**
+     * Map a position of the list to the slot of the backing array holding it, wrapping around the end.
+     *
+     * @param position the position, between 0 and the length of the backing array.
+     * @return the slot.
+     */
+    private int slot(int position) {
+        return position < arr.length - head ? head + position : position - (arr.length - head);
+    }
+
+    /**
+     * Drop elements from the front, without shifting anything.
+     *
+     * @param count the number of elements to be dropped.
+     */
+    private void evictFirst(int count) {
+        int first = Math.min(count, arr.length - head);
+
+        Arrays.fill(arr, head, head + first, null);
+        Arrays.fill(arr, 0, count - first, null);
+
+        head = slot(count);
+        size -= count;
+    }
+
+    /**
+     * Switch the backing array with one which fits the required number of elements, unwrapping them so that
+     * the head is at the start.
+     *
+     * @param required the number of elements that should fit.
+     */
+    private void grow(int required) {
+        int newLength = Math.max(arr.length * RESIZING_FACTOR, DEFAULT_SIZE);
+
+        while (newLength < required) {
+            newLength *= RESIZING_FACTOR;
+        }
+
+        Object[] resized = new Object[newLength];
+        int first = Math.min(size, arr.length - head);
+
+        System.arraycopy(arr, head, resized, 0, first);
+        System.arraycopy(arr, 0, resized, first, size - first);
+
+        arr = resized;
+        head = 0;
+    }
+}
@@ -0,0 +1,169 @@
+package Coding.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.security.InvalidParameterException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class RingListTest {
+
+    private RingList<Integer> list;
+
+    @Before
+    public void before() {
+        list = new RingList<>();
+    }
+
+    @Test(expected = InvalidParameterException.class)
+    public void testInitWithNegativeSize() {
+        list = new RingList<>(-1);
+    }
+
+    @Test(expected = InvalidParameterException.class)
+    public void testBoundedWithZeroCapacity() {
+        RingList.bounded(0);
+    }
+
+    @Test
+    public void testDequeOperations() {
+        list.addLast(1);
+        list.addLast(2);
+        list.addFirst(0);
+        list.addFirst(-1);
+
+        Assert.assertEquals("[-1, 0, 1, 2]", list.toString());
+        Assert.assertEquals(Integer.valueOf(-1), list.getFirst());
+        Assert.assertEquals(Integer.valueOf(2), list.getLast());
+        Assert.assertEquals(Integer.valueOf(-1), list.removeFirst());
+        Assert.assertEquals(Integer.valueOf(2), list.removeLast());
+        Assert.assertEquals("[0, 1]", list.toString());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testRemoveFirstFromEmptyList() {
+        list.removeFirst();
+    }
+
+    @Test
+    public void testRemoveFirstDoesNotShift() {
+        for (int i = 0; i < 8; i++) {
+            list.add(i);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertTrue(list.remove(0));
+            list.add(i + 8);
+        }
+
+        Assert.assertEquals(10, list.capacity());
+
+        for (int i = 0; i < 8; i++) {
+            Assert.assertEquals(Integer.valueOf(1000 + i), list.get(i));
+        }
+    }
+
+    @Test
+    public void testAddInPositionAndRemoveWrappingAround() {
+        list = new RingList<>(8);
+        list.addAll(List.of(2, 3, 4, 5));
+        list.addFirst(1);
+        list.addFirst(0);
+
+        list.add(-1, 1);
+        list.add(-2, 6);
+        list.add(-3, 8);
+
+        Assert.assertEquals("[0, -1, 1, 2, 3, 4, -2, 5, -3]", list.toString());
+
+        Assert.assertTrue(list.remove(1));
+        Assert.assertTrue(list.remove(5));
+        Assert.assertFalse(list.remove(7));
+
+        Assert.assertEquals("[0, 1, 2, 3, 4, 5, -3]", list.toString());
+    }
+
+    @Test
+    public void testAgainstArrayDeque() {
+        Random random = new Random(20);
+        Deque<Integer> expected = new ArrayDeque<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            switch (random.nextInt(5)) {
+                case 0 -> {
+                    list.addFirst(i);
+                    expected.addFirst(i);
+                }
+                case 1, 2 -> {
+                    list.addLast(i);
+                    expected.addLast(i);
+                }
+                case 3 -> {
+                    if (!expected.isEmpty()) {
+                        Assert.assertEquals(expected.removeFirst(), list.removeFirst());
+                    }
+                }
+                default -> {
+                    if (!expected.isEmpty()) {
+                        Assert.assertEquals(expected.removeLast(), list.removeLast());
+                    }
+                }
+            }
+        }
+
+        Assert.assertEquals(expected.size(), list.size());
+        Assert.assertEquals(expected.toString(), list.toString());
+    }
+
+    @Test
+    public void testBoundedOverwritesOldest() {
+        list = RingList.bounded(3);
+
+        for (int i = 0; i < 5; i++) {
+            list.add(i);
+        }
+
+        Assert.assertEquals("[2, 3, 4]", list.toString());
+
+        list.addFirst(1);
+
+        Assert.assertEquals("[1, 2, 3]", list.toString());
+
+        list.add(-1, 2);
+
+        Assert.assertEquals("[2, -1, 3]", list.toString());
+        Assert.assertEquals(3, list.capacity());
+    }
+
+    @Test
+    public void testBoundedAddAll() {
+        list = RingList.bounded(4);
+        list.addAll(List.of(0, 1, 2));
+        list.addAll(List.of(3, 4));
+
+        Assert.assertEquals("[1, 2, 3, 4]", list.toString());
+
+        list.addAll(List.of(5, 6, 7, 8, 9, 10));
+
+        Assert.assertEquals("[7, 8, 9, 10]", list.toString());
+        Assert.assertEquals(4, list.capacity());
+    }
+
+    @Test
+    public void testClear() {
+        list.addAll(List.of(0, 1, 2));
+        list.removeFirst();
+        list.clear();
+
+        Assert.assertTrue(list.isEmpty());
+
+        list.add(3);
+
+        Assert.assertEquals("[3]", list.toString());
+    }
+}
@@ -0,0 +1,287 @@
+package Coding.List;
+
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.StringJoiner;
+
+/**
+ * Simple single-threaded ArrayList storing its elements in a spine of fixed-size chunks instead of one backing array.
+ *
+ * <p>
+ *     <i>
+ *         Growing only allocates a new chunk (and occasionally a bigger spine), so existing elements are never
+ *         copied and no allocation is ever bigger than a chunk, which avoids the latency spikes and humongous
+ *         allocations of a full-copy resize. Since the chunk size is a power of 2, <code>get</code> stays O(1)
+ *         with a shift and a mask.
+ *     </i>
+ * </p>
+ *
+ * @param <T>
+ */
+public class SegmentedArrayList<T> implements List<T> {
+
+    /**
+     * The chunk size used when such is not specified, small enough to stay a regular allocation for any collector.
+     */
+    private final static int DEFAULT_CHUNK_SIZE = 1 << 12;
+
+    /**
+     * Initial number of chunk slots in the spine.
+     */
+    private final static int DEFAULT_SPINE_SIZE = 8;
+
+    /**
+     * log2 of the chunk size.
+     */
+    private final int shift;
+
+    /**
+     * The chunk size minus 1, masking the position within a chunk.
+     */
+    private final int mask;
+
+    /**
+     * The internal elements counter.
+     */
+    private int index = 0;
+
+    /**
+     * The allocated chunks, in order. The slots after the last allocated chunk are NULL.
+     */
+    private Object[][] chunks;
+
+    /**
+     * The number of allocated chunks.
+     */
+    private int chunkCount;
+
+    /**
+     * Default constructor, using chunks of <code>DEFAULT_CHUNK_SIZE</code> elements.
+     *
+     * @see #DEFAULT_CHUNK_SIZE
+     */
+    public SegmentedArrayList() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructor allowing users to customize the size of the chunks.
+     *
+     * @param chunkSize the number of elements per chunk, a power of 2.
+     * @throws InvalidParameterException when the chunkSize is not a positive power of 2.
+     */
+    public SegmentedArrayList(int chunkSize) {
+        if (chunkSize <= 0 || Integer.bitCount(chunkSize) != 1) {
+            throw new InvalidParameterException("Chunk size should be a positive power of 2.");
+        }
+
+        shift = Integer.numberOfTrailingZeros(chunkSize);
+        mask = chunkSize - 1;
+        chunks = new Object[DEFAULT_SPINE_SIZE][];
+    }
+
+    public int size() {
+        return index;
+    }
+
+    public boolean isEmpty() {
+        return index == 0;
+    }
+
+    /**
+     * Adds an element, allocating a new chunk if the last one is full.
+     *
+     * @param element represents the entity that will be added in the list.
+     */
+    public void add(T element) {
+        int chunk = index >>> shift;
+
+        if (chunk == chunkCount) {
+            addChunk();
+        }
+
+        chunks[chunk][index & mask] = element;
+        index++;
+    }
+
+    /**
+     * Adds an element in a specified position, shifting all elements after it with 1 position to the right.
+     *
+     * @param element represents the entity that will be added in the list.
+     * @param position is the specified index at which it will be added.
+     * @throws IndexOutOfBoundsException when the position to be added is out of bounds.
+     */
+    public void add(T element, int position) {
+        if (position < 0 || position > index) {
+            throw new IndexOutOfBoundsException("Index out of range.");
+        }
+
+        if ((index >>> shift) == chunkCount) {
+            addChunk();
+        }
+
+        int firstChunk = position >>> shift;
+
+        for (int chunk = index >>> shift; chunk > firstChunk; chunk--) {
+            Object[] current = chunks[chunk];
+            Object[] previous = chunks[chunk - 1];
+            int used = chunk == index >>> shift ? index & mask : mask + 1;
+
+            System.arraycopy(current, 0, current, 1, Math.min(used, mask));
+            current[0] = previous[mask];
+        }
+
+        Object[] first = chunks[firstChunk];
+        int offset = position & mask;
+        int used = firstChunk == index >>> shift ? index & mask : mask + 1;
+
+        System.arraycopy(first, offset, first, offset + 1, Math.min(used, mask) - offset);
+        first[offset] = element;
+        index++;
+    }
+
+    /**
+     * Adds a collection of elements, filling the chunks one block at a time.
+     *
+     * @param collection is the set of element that will be provided as an argument.
+     * @throws InvalidParameterException if the collection is NULL
+     */
+    public void addAll(Collection<? super T> collection) {
+        if (collection == null) {
+            throw new InvalidParameterException("NULL cannot be passed as collection argument.");
+        }
+
+        Object[] elements = collection.toArray();
+        int copied = 0;
+
+        while (copied < elements.length) {
+            int chunk = index >>> shift;
+
+            if (chunk == chunkCount) {
+                addChunk();
+            }
+
+            int offset = index & mask;
+            int length = Math.min(elements.length - copied, mask + 1 - offset);
+
+            System.arraycopy(elements, copied, chunks[chunk], offset, length);
+            copied += length;
+            index += length;
+        }
+    }
+
+    /**
+     * Remove an element corresponding to the provided position.
+     *
+     * @param position is the index that holds the element to be removed.
+     * @return true if the element was deleted, false otherwise
+     */
+    public boolean remove(int position) {
+        if (position < 0 || position >= index) {
+            return false;
+        }
+
+        int lastElementPos = --index;
+        int lastChunk = lastElementPos >>> shift;
+        int chunk = position >>> shift;
+        int offset = position & mask;
+
+        while (chunk < lastChunk) {
+            Object[] current = chunks[chunk];
+
+            System.arraycopy(current, offset + 1, current, offset, mask - offset);
+            current[mask] = chunks[chunk + 1][0];
+
+            chunk++;
+            offset = 0;
+        }
+
+        Object[] last = chunks[lastChunk];
+        int lastOffset = lastElementPos & mask;
+
+        System.arraycopy(last, offset + 1, last, offset, lastOffset - offset);
+        last[lastOffset] = null;
+
+        return true;
+    }
+
+    /**
+     * Clears all elements within the list, keeping only the first chunk.
+     */
+    public void clear() {
+        if (chunkCount > 0) {
+            Arrays.fill(chunks[0], null);
+        }
+
+        Arrays.fill(chunks, 1, chunks.length, null);
+        chunkCount = Math.min(chunkCount, 1);
+        index = 0;
+    }
+
+    /**
+     * Get an element corresponding to a certain position.
+     *
+     * @param position is the index from which the element will be taken.
+     * @return the element
+     * @throws IndexOutOfBoundsException if the position is not in the defined range.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int position) {
+        if (position < 0 || position >= index) {
+            throw new IndexOutOfBoundsException("Index out of range.");
+        }
+
+        return (T) chunks[position >>> shift][position & mask];
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+
+        for (T element : this) {
+            joiner.add(String.valueOf(element));
+        }
+
+        return joiner.toString();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+
+            int idx = 0;
+
+            @Override
+            public boolean hasNext() {
+                return idx < index;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (idx >= index) {
+                    throw new NoSuchElementException();
+                }
+
+                T element = (T) chunks[idx >>> shift][idx & mask];
+                idx++;
+
+                return element;
+            }
+        };
+    }
+
+    /**
+     * Allocate the next chunk, doubling the spine if it has no free slot. Only the spine is ever copied.
+     */
+    private void addChunk() {
+        if (chunkCount == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunks.length * 2);
+        }
+
+        chunks[chunkCount++] = new Object[mask + 1];
+    }
+}
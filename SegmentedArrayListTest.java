@@ -0,0 +1,98 @@
+package Coding.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.security.InvalidParameterException;
+import java.util.List;
+import java.util.Random;
+
+public class SegmentedArrayListTest {
+
+    private SegmentedArrayList<Integer> list;
+
+    @Before
+    public void before() {
+        list = new SegmentedArrayList<>(4);
+    }
+
+    @Test(expected = InvalidParameterException.class)
+    public void testInitWithChunkSizeNotPowerOfTwo() {
+        new SegmentedArrayList<>(6);
+    }
+
+    @Test
+    public void testAddAcrossChunks() {
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+
+        Assert.assertEquals(100, list.size());
+
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(Integer.valueOf(i), list.get(i));
+        }
+    }
+
+    @Test
+    public void testAddAllAcrossChunks() {
+        list.add(0);
+        list.addAll(List.of(1, 2, 3, 4, 5, 6, 7, 8, 9));
+
+        Assert.assertEquals("[0, 1, 2, 3, 4, 5, 6, 7, 8, 9]", list.toString());
+    }
+
+    @Test
+    public void testAddInPositionAndRemoveAcrossChunks() {
+        list.addAll(List.of(0, 1, 2, 3, 4, 5, 6, 7));
+
+        list.add(-1, 3);
+        Assert.assertEquals("[0, 1, 2, -1, 3, 4, 5, 6, 7]", list.toString());
+
+        list.add(-2, 9);
+        Assert.assertEquals("[0, 1, 2, -1, 3, 4, 5, 6, 7, -2]", list.toString());
+
+        Assert.assertTrue(list.remove(0));
+        Assert.assertTrue(list.remove(8));
+        Assert.assertFalse(list.remove(8));
+        Assert.assertEquals("[1, 2, -1, 3, 4, 5, 6, 7]", list.toString());
+    }
+
+    @Test
+    public void testRandomOperationsMatchJavaArrayList() {
+        Random random = new Random(7);
+        java.util.ArrayList<Integer> expected = new java.util.ArrayList<>();
+
+        for (int i = 0; i < 2_000; i++) {
+            int operation = random.nextInt(3);
+
+            if (operation == 0 || expected.isEmpty()) {
+                int position = random.nextInt(expected.size() + 1);
+                list.add(i, position);
+                expected.add(position, i);
+            } else if (operation == 1) {
+                list.add(i);
+                expected.add(i);
+            } else {
+                int position = random.nextInt(expected.size());
+                list.remove(position);
+                expected.remove(position);
+            }
+        }
+
+        Assert.assertEquals(expected.toString(), list.toString());
+    }
+
+    @Test
+    public void testClear() {
+        list.addAll(List.of(1, 2, 3, 4, 5, 6));
+        list.clear();
+
+        Assert.assertTrue(list.isEmpty());
+
+        list.add(7);
+
+        Assert.assertEquals("[7]", list.toString());
+    }
+}
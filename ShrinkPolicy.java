@@ -0,0 +1,54 @@
+package Coding.List;
+
+/**
+ * Decides when the backing array of a list gives memory back after elements are removed.
+ *
+ * <p>
+ *     <i>
+ *         Like {@link GrowthPolicy#limit(int)}, lists cache <code>threshold(capacity)</code> whenever their backing
+ *         array changes, so removing an element only compares the size with a precomputed integer.
+ *     </i>
+ * </p>
+ */
+public interface ShrinkPolicy {
+
+    /**
+     * The number of elements below which an array of the given capacity shrinks.
+     *
+     * @param capacity the length of the backing array.
+     * @return the threshold, 0 if the array should never shrink.
+     */
+    int threshold(int capacity);
+
+    /**
+     * The capacity the backing array shrinks to.
+     *
+     * @param capacity the current length of the backing array.
+     * @param size the number of elements.
+     * @param growthPolicy the policy the list grows with, which the new capacity should leave room for.
+     * @return the new capacity, the current one if the array should be kept.
+     */
+    int shrink(int capacity, int size, GrowthPolicy growthPolicy);
+
+    /**
+     * Shrinking when the occupancy drops below 25%, never below 10 elements.
+     *
+     * @return the policy.
+     */
+    static ShrinkPolicy hysteresis() {
+        return HysteresisShrinkPolicy.DEFAULT;
+    }
+
+    /**
+     * Shrinking when the occupancy drops below a load factor, to twice the capacity the elements require.
+     * The gap between that load factor and the one of the growth policy keeps a list which alternately gains
+     * and loses a few elements from resizing every time.
+     *
+     * @param loadFactor the occupancy in percentages below which the array shrinks, between 1 and 49.
+     * @param minimumCapacity the capacity the array never shrinks below.
+     * @return the policy.
+     */
+    static ShrinkPolicy hysteresis(int loadFactor, int minimumCapacity) {
+        return new HysteresisShrinkPolicy(loadFactor, minimumCapacity);
+    }
+}
@@ -0,0 +1,630 @@
+package Coding.List;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.StringJoiner;
+
+/**
+ * Single-threaded list which keeps a bounded number of its pages in memory and spills the rest to a temporary file,
+ * for datasets which can be larger than the heap.
+ *
+ * <p>
+ *     <i>
+ *         The elements are encoded through a fixed-width {@link Codec} into pages of a fixed number of bytes. At most
+ *         <code>memoryBudget / pageSize</code> pages are held in memory - when another one is needed, the CLOCK
+ *         algorithm picks a page which wasn't used since the hand last passed it, writes it to the file if it was
+ *         modified, and reuses its buffer. The file is only created when the first page is spilled, and deleted
+ *         when the list is closed.
+ *     </i>
+ * </p>
+ *
+ * <p>
+ *     <i>
+ *         Reading the page after the previous one from the file is treated as a sequential scan, and the following
+ *         pages are read ahead with a single scattering read. Inserting or removing anywhere but the end
+ *         moves every element after the position, page by page, which is O(n).
+ *     </i>
+ * </p>
+ *
+ * @param <T>
+ */
+public class SpillingList<T> implements List<T>, AutoCloseable {
+
+    /**
+     * The number of bytes of a page, when such is not specified.
+     */
+    private final static int DEFAULT_PAGE_SIZE = 1 << 16;
+
+    /**
+     * The maximum number of pages read ahead of a sequential scan.
+     */
+    private final static int READ_AHEAD_PAGES = 8;
+
+    /**
+     * The factor by which the page table grows when it's full.
+     */
+    private final static int RESIZING_FACTOR = 2;
+
+    private final Codec<T> codec;
+
+    /**
+     * The number of bytes every element occupies.
+     */
+    private final int width;
+
+    /**
+     * The number of elements of every page.
+     */
+    private final int pageElements;
+
+    /**
+     * The number of bytes of every page, a multiple of the width.
+     */
+    private final int pageBytes;
+
+    /**
+     * Where the temporary file is created.
+     */
+    private final Path directory;
+
+    /**
+     * The temporary file, NULL until the first page is spilled.
+     */
+    private FileChannel channel;
+
+    /**
+     * Every page of the list, resident or not, NULL after the list has been closed.
+     */
+    private Page[] pages = new Page[1];
+
+    /**
+     * The number of pages.
+     */
+    private int pageCount = 0;
+
+    /**
+     * The maximum number of resident pages, as fits the memory budget.
+     */
+    private final int maxFrames;
+
+    /**
+     * The resident pages, in the order the hand of the clock visits them, growing up to the maximum.
+     */
+    private Page[] frames;
+
+    /**
+     * The number of used frames.
+     */
+    private int usedFrames = 0;
+
+    /**
+     * The next frame the clock considers for eviction.
+     */
+    private int hand = 0;
+
+    /**
+     * The page accessed most recently, to recognize sequential scans.
+     */
+    private int lastPage = -1;
+
+    /**
+     * The number of elements.
+     */
+    private int size = 0;
+
+    /**
+     * Holds an element moved between pages.
+     */
+    private final ByteBuffer scratch;
+
+    private long pageIns;
+
+    private long pageOuts;
+
+    /**
+     * Constructor spilling pages of {@link #DEFAULT_PAGE_SIZE} bytes into the default temporary directory.
+     *
+     * @param codec the fixed-width representation of the elements.
+     * @param memoryBudget the number of bytes the resident pages may take.
+     * @throws InvalidParameterException when the codec is NULL, or the budget doesn't fit 2 pages.
+     */
+    public SpillingList(Codec<T> codec, long memoryBudget) {
+        this(codec, memoryBudget, DEFAULT_PAGE_SIZE, null);
+    }
+
+    /**
+     * Constructor allowing users to customize the size of the pages and where they are spilled.
+     *
+     * @param codec the fixed-width representation of the elements.
+     * @param memoryBudget the number of bytes the resident pages may take.
+     * @param pageSize the number of bytes of a page, rounded down to a multiple of the codec width.
+     * @param directory where the temporary file is created, NULL for the default temporary directory.
+     * @throws InvalidParameterException when the codec is NULL, a page doesn't fit an element,
+     * or the budget doesn't fit 2 pages.
+     */
+    public SpillingList(Codec<T> codec, long memoryBudget, int pageSize, Path directory) {
+        if (codec == null) {
+            throw new InvalidParameterException("NULL cannot be passed as codec argument.");
+        }
+
+        this.codec = codec;
+        this.width = codec.width();
+
+        if (width <= 0) {
+            throw new InvalidParameterException("Codec width should be bigger than 0.");
+        }
+
+        if (pageSize < width) {
+            throw new InvalidParameterException("Page size cannot be less than the codec width.");
+        }
+
+        pageElements = pageSize / width;
+        pageBytes = pageElements * width;
+
+        long frameCount = memoryBudget / pageBytes;
+
+        if (frameCount < 2) {
+            throw new InvalidParameterException("Memory budget should fit at least 2 pages.");
+        }
+
+        maxFrames = (int) Math.min(frameCount, Integer.MAX_VALUE - 8);
+        frames = new Page[Math.min(maxFrames, READ_AHEAD_PAGES)];
+        scratch = ByteBuffer.allocate(width);
+        this.directory = directory;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * The number of pages held in memory.
+     *
+     * @return the count, up to the number the memory budget fits.
+     */
+    public int residentPages() {
+        return usedFrames;
+    }
+
+    /**
+     * The number of pages read from the file, including the ones read ahead.
+     *
+     * @return the count.
+     */
+    public long pageIns() {
+        return pageIns;
+    }
+
+    /**
+     * The number of pages written to the file.
+     *
+     * @return the count.
+     */
+    public long pageOuts() {
+        return pageOuts;
+    }
+
+    /**
+     * Adds an element to the last page, spilling a cold page if the memory budget is used up.
+     *
+     * @param element represents the entity that will be added in the list.
+     */
+    public void add(T element) {
+        write(size, element);
+        size++;
+    }
+
+    /**
+     * Adds an element in a specified position, moving all elements after it with 1 position to the right.
+     *
+     * @param element represents the entity that will be added in the list.
+     * @param position is the specified index at which it will be added.
+     * @throws IndexOutOfBoundsException when the position to be added is out of bounds.
+     */
+    public void add(T element, int position) {
+        if (position < 0 || position > size) {
+            throw new IndexOutOfBoundsException("Index out of range.");
+        }
+
+        for (int i = size; i > position; i--) {
+            move(i - 1, i);
+        }
+
+        write(position, element);
+        size++;
+    }
+
+    /**
+     * Appends a collection of elements.
+     *
+     * @param collection is the set of element that will be provided as an argument.
+     * @throws InvalidParameterException if the collection is NULL
+     */
+    @SuppressWarnings("unchecked")
+    public void addAll(Collection<? super T> collection) {
+        if (collection == null) {
+            throw new InvalidParameterException("NULL cannot be passed as collection argument.");
+        }
+
+        for (Object element : collection) {
+            add((T) element);
+        }
+    }
+
+    /**
+     * Remove an element corresponding to the provided position, moving all elements after it with 1 position
+     * to the left.
+     *
+     * @param position is the index that holds the element to be removed.
+     * @return true if the element was deleted, false otherwise
+     */
+    public boolean remove(int position) {
+        if (position < 0 || position >= size) {
+            return false;
+        }
+
+        for (int i = position + 1; i < size; i++) {
+            move(i, i - 1);
+        }
+
+        size--;
+
+        return true;
+    }
+
+    /**
+     * Clears all elements, dropping every page and truncating the file. The buffers of the resident pages are kept.
+     */
+    public void clear() {
+        pages();
+        Arrays.fill(pages, 0, pageCount, null);
+
+        for (int i = 0; i < usedFrames; i++) {
+            frames[i].number = -1;
+        }
+
+        pageCount = 0;
+        lastPage = -1;
+        size = 0;
+
+        if (channel != null) {
+            try {
+                channel.truncate(0);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Get an element corresponding to a certain position, reading its page from the file if it's not resident.
+     *
+     * @param position is the index from which the element will be taken.
+     * @return the element
+     * @throws IndexOutOfBoundsException if the position is not in the defined range.
+     * @throws UncheckedIOException when reading the page fails.
+     */
+    public T get(int position) {
+        if (position < 0 || position >= size) {
+            throw new IndexOutOfBoundsException("Index out of range.");
+        }
+
+        return codec.read(page(position / pageElements).data, (position % pageElements) * width);
+    }
+
+    /**
+     * Replace the element at a position, in its page.
+     *
+     * @param element the new element.
+     * @param position the position of the replaced element.
+     * @return the replaced element.
+     * @throws IndexOutOfBoundsException if the position is not in the defined range.
+     */
+    @Override
+    public T set(T element, int position) {
+        T replaced = get(position);
+        write(position, element);
+
+        return replaced;
+    }
+
+    /**
+     * Delete the file and drop all pages. The list cannot be used anymore.
+     */
+    @Override
+    public void close() throws IOException {
+        if (pages == null) {
+            return;
+        }
+
+        pages = null;
+        frames = null;
+        usedFrames = 0;
+
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+
+        for (T element : this) {
+            joiner.add(String.valueOf(element));
+        }
+
+        return joiner.toString();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+
+            int idx = 0;
+
+            @Override
+            public boolean hasNext() {
+                return idx < size;
+            }
+
+            @Override
+            public T next() {
+                if (idx >= size) {
+                    throw new NoSuchElementException();
+                }
+
+                return get(idx++);
+            }
+        };
+    }
+
+    private void write(int position, T element) {
+        Page page = page(position / pageElements);
+
+        codec.write(page.data, (position % pageElements) * width, element);
+        page.dirty = true;
+    }
+
+    /**
+     * Copy the bytes of an element to another position, possibly in another page.
+     *
+     * @param from the position of the element.
+     * @param to the position the element is copied to.
+     */
+    private void move(int from, int to) {
+        page(from / pageElements).data.get((from % pageElements) * width, scratch.array());
+
+        Page page = page(to / pageElements);
+        page.data.put((to % pageElements) * width, scratch.array());
+        page.dirty = true;
+    }
+
+    /**
+     * Get a page, creating it after the last one or reading it from the file if it's not resident.
+     *
+     * @param number the number of the page, at most the number of pages.
+     * @return the resident page.
+     */
+    private Page page(int number) {
+        Page[] pages = pages();
+
+        if (number == pageCount) {
+            if (pageCount == pages.length) {
+                this.pages = pages = Arrays.copyOf(pages, pageCount * RESIZING_FACTOR);
+            }
+
+            pages[pageCount++] = new Page(number);
+        }
+
+        Page page = pages[number];
+
+        if (page.data == null) {
+            assignFrame(page, null);
+
+            if (page.spilled) {
+                if (number == lastPage + 1) {
+                    readAhead(page);
+                } else {
+                    read(new ByteBuffer[]{page.data}, number);
+                }
+            }
+        }
+
+        page.referenced = true;
+        lastPage = number;
+
+        return page;
+    }
+
+    /**
+     * Read the spilled pages following a page together with it, while they are not resident.
+     *
+     * @param page the page which is read first, already holding a frame.
+     */
+    private void readAhead(Page page) {
+        int count = 1;
+        int limit = Math.min(READ_AHEAD_PAGES, maxFrames / 2);
+
+        while (count < limit && page.number + count < pageCount) {
+            Page next = pages[page.number + count];
+
+            if (next.data != null || !next.spilled) {
+                break;
+            }
+
+            count++;
+        }
+
+        ByteBuffer[] buffers = new ByteBuffer[count];
+        buffers[0] = page.data;
+
+        for (int i = 1; i < count; i++) {
+            Page next = pages[page.number + i];
+            assignFrame(next, page);
+            buffers[i] = next.data;
+
+            // Keeps the clock from evicting the pages read ahead before the read
+            next.referenced = true;
+        }
+
+        read(buffers, page.number);
+    }
+
+    /**
+     * Give a page a frame, taking a free one or evicting the first page the clock hand finds unreferenced.
+     * The referenced pages it passes lose their reference bit.
+     *
+     * @param page the page which is not resident.
+     * @param pinned a page which must not be evicted, NULL if none.
+     */
+    private void assignFrame(Page page, Page pinned) {
+        if (usedFrames < maxFrames) {
+            if (usedFrames == frames.length) {
+                frames = Arrays.copyOf(frames, (int) Math.min((long) usedFrames * RESIZING_FACTOR, maxFrames));
+            }
+
+            page.data = ByteBuffer.allocate(pageBytes);
+            frames[usedFrames++] = page;
+            return;
+        }
+
+        while (true) {
+            Page victim = frames[hand];
+
+            // Pages dropped by clear() don't belong to the list anymore
+            if (victim.number >= 0 && (victim == pinned || victim.referenced)) {
+                victim.referenced = false;
+                hand = (hand + 1) % frames.length;
+                continue;
+            }
+
+            if (victim.number >= 0 && victim.dirty) {
+                spill(victim);
+            }
+
+            page.data = victim.data;
+            victim.data = null;
+            frames[hand] = page;
+            hand = (hand + 1) % frames.length;
+
+            return;
+        }
+    }
+
+    /**
+     * Write a modified page to its place in the file, creating the file first if needed.
+     *
+     * @param page the resident page.
+     */
+    private void spill(Page page) {
+        try {
+            if (channel == null) {
+                Path file = directory == null
+                    ? Files.createTempFile("spilling-list", ".pages")
+                    : Files.createTempFile(directory, "spilling-list", ".pages");
+
+                channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.DELETE_ON_CLOSE);
+            }
+
+            ByteBuffer data = page.data.clear();
+            long offset = (long) page.number * pageBytes;
+
+            while (data.hasRemaining()) {
+                offset += channel.write(data, offset);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        page.dirty = false;
+        page.spilled = true;
+        pageOuts++;
+    }
+
+    /**
+     * Read consecutive pages from the file with a single scattering read.
+     *
+     * @param buffers the frames of the pages.
+     * @param number the number of the first page.
+     */
+    private void read(ByteBuffer[] buffers, int number) {
+        try {
+            for (ByteBuffer buffer : buffers) {
+                buffer.clear();
+            }
+
+            channel.position((long) number * pageBytes);
+
+            while (buffers[buffers.length - 1].hasRemaining()) {
+                if (channel.read(buffers) < 0) {
+                    throw new EOFException("Spilled page is missing.");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        pageIns += buffers.length;
+    }
+
+    private Page[] pages() {
+        if (pages == null) {
+            throw new IllegalStateException("List is closed.");
+        }
+
+        return pages;
+    }
+
+    /**
+     * A page of the list, whose data is only held while it's resident.
+     */
+    private static final class Page {
+
+        /**
+         * The position of the page in the list, -1 once it was dropped.
+         */
+        int number;
+
+        /**
+         * The encoded elements, NULL while the page is not resident.
+         */
+        ByteBuffer data;
+
+        /**
+         * Whether the page was used since the clock hand last passed it.
+         */
+        boolean referenced;
+
+        /**
+         * Whether the page was modified since it was last written to the file.
+         */
+        boolean dirty;
+
+        /**
+         * Whether the page has been written to the file.
+         */
+        boolean spilled;
+
+        Page(int number) {
+            this.number = number;
+        }
+    }
+}
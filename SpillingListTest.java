@@ -0,0 +1,146 @@
+package Coding.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.InvalidParameterException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+public class SpillingListTest {
+
+    private Path directory;
+
+    private SpillingList<Integer> list;
+
+    @Before
+    public void before() throws IOException {
+        directory = Files.createTempDirectory("spilling-list-test");
+
+        // 16 elements per page, at most 4 pages in memory
+        list = new SpillingList<>(Codec.INT, 256, 64, directory);
+    }
+
+    @After
+    public void after() throws IOException {
+        list.close();
+
+        try (Stream<Path> files = Files.list(directory)) {
+            Assert.assertEquals(0, files.count());
+        }
+
+        Files.delete(directory);
+    }
+
+    @Test(expected = InvalidParameterException.class)
+    public void testBudgetSmallerThanTwoPages() {
+        new SpillingList<>(Codec.INT, 100, 64, directory);
+    }
+
+    @Test
+    public void testSmallListStaysInMemory() throws IOException {
+        for (int i = 0; i < 64; i++) {
+            list.add(i);
+        }
+
+        Assert.assertEquals(Integer.valueOf(63), list.get(63));
+        Assert.assertEquals(0, list.pageOuts());
+
+        try (Stream<Path> files = Files.list(directory)) {
+            Assert.assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    public void testSpillsAndPagesBackIn() {
+        for (int i = 0; i < 10_000; i++) {
+            list.add(i);
+        }
+
+        Assert.assertEquals(10_000, list.size());
+        Assert.assertEquals(4, list.residentPages());
+        Assert.assertTrue(list.pageOuts() > 0);
+
+        Random random = new Random(25);
+
+        for (int i = 0; i < 1000; i++) {
+            int position = random.nextInt(10_000);
+            Assert.assertEquals(Integer.valueOf(position), list.get(position));
+        }
+
+        Assert.assertEquals(4, list.residentPages());
+    }
+
+    @Test
+    public void testSequentialScanReadsAhead() {
+        list = new SpillingList<>(Codec.INT, 64 * 16, 64, directory);
+
+        for (int i = 0; i < 16 * 100; i++) {
+            list.add(i);
+        }
+
+        long pageIns = list.pageIns();
+        Iterator<Integer> iterator = list.iterator();
+
+        for (int i = 0; i < 16 * 100; i++) {
+            Assert.assertEquals(Integer.valueOf(i), iterator.next());
+        }
+
+        Assert.assertFalse(iterator.hasNext());
+        Assert.assertTrue(list.pageIns() - pageIns >= 100 - 16);
+    }
+
+    @Test
+    public void testAddInPositionRemoveAndSet() {
+        for (int i = 0; i < 200; i++) {
+            list.add(i);
+        }
+
+        list.add(-1, 10);
+        list.add(-2, 0);
+
+        Assert.assertEquals(202, list.size());
+        Assert.assertEquals(Integer.valueOf(-2), list.get(0));
+        Assert.assertEquals(Integer.valueOf(-1), list.get(11));
+        Assert.assertEquals(Integer.valueOf(199), list.get(201));
+
+        Assert.assertTrue(list.remove(0));
+        Assert.assertTrue(list.remove(10));
+        Assert.assertFalse(list.remove(200));
+
+        Assert.assertEquals(Integer.valueOf(5), list.set(-5, 5));
+
+        for (int i = 0; i < 200; i++) {
+            Assert.assertEquals(Integer.valueOf(i == 5 ? -5 : i), list.get(i));
+        }
+    }
+
+    @Test
+    public void testClear() {
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+
+        list.clear();
+
+        Assert.assertTrue(list.isEmpty());
+
+        list.addAll(List.of(7, 8));
+
+        Assert.assertEquals("[7, 8]", list.toString());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testUseAfterClose() throws IOException {
+        list.add(1);
+        list.close();
+        list.get(0);
+    }
+}
@@ -0,0 +1,83 @@
+package Coding.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Sum, filter and collect through {@link ArrayList#parallelStream()}, executed in fork-join pools of
+ * growing parallelism, so the scores show the speedup from 1 to N cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class StreamBenchmark {
+
+    @Param({"10000000"})
+    public int size;
+
+    @Param({"1", "2", "4", "8", "16"})
+    public int parallelism;
+
+    private ArrayList<Integer> list;
+
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void createList() {
+        list = new ArrayList<>(size * 2);
+
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+
+        pool = new ForkJoinPool(parallelism);
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public long sum() {
+        return pool.submit(() -> list.parallelStream().mapToLong(Integer::longValue).sum()).join();
+    }
+
+    @Benchmark
+    public long filter() {
+        return pool.submit(() -> list.parallelStream().filter(element -> (element & 7) == 0).count()).join();
+    }
+
+    @Benchmark
+    public java.util.List<Integer> collect() {
+        return pool.submit(() -> list.parallelStream().filter(element -> (element & 1) == 0).collect(Collectors.toList())).join();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(StreamBenchmark.class.getSimpleName())
+            .build()
+        ).run();
+    }
+}
@@ -0,0 +1,75 @@
+package Coding.List;
+
+import java.util.Arrays;
+
+/**
+ * View of a range of an {@link ArrayList}, or of another view. A range of the list reads its backing array directly,
+ * and a range of a range is collapsed into a single range of their source.
+ *
+ * @param <T>
+ */
+final class SubListView<T> extends ListView<T> {
+
+    /**
+     * The list, or the view the range is taken from.
+     */
+    private final List<T> source;
+
+    private final int offset;
+
+    private final int size;
+
+    SubListView(ArrayList<T> list, int from, int to) {
+        super(list, list.modCount());
+        source = list;
+        offset = from;
+        size = to - from;
+    }
+
+    SubListView(ListView<T> view, int from, int to) {
+        super(view.root, view.expectedModCount);
+
+        if (view instanceof SubListView<T> range) {
+            source = range.source;
+            offset = range.offset + from;
+        } else {
+            source = view;
+            offset = from;
+        }
+
+        size = to - from;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int position) {
+        checkPosition(position);
+
+        if (source == root) {
+            return (T) root.elements()[offset + position];
+        }
+
+        return source.get(offset + position);
+    }
+
+    /**
+     * Copy the range with a single block copy when it's a range of the list.
+     *
+     * @return the list.
+     */
+    @Override
+    public ArrayList<T> materialize() {
+        if (source != root) {
+            return super.materialize();
+        }
+
+        checkForComodification();
+
+        return ArrayList.wrap(Arrays.copyOfRange(root.elements(), offset, offset + size));
+    }
+}
@@ -0,0 +1,166 @@
+package Coding.List;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Secondary index of an array-backed list, mapping every distinct element to its number of occurrences
+ * and to the position of its first occurrence.
+ *
+ * <p>
+ *     <i>
+ *         Appends and removals of the last element keep the index exact. Inserts and removals in the middle
+ *         shift the elements after them, so instead of fixing up every position, the index only remembers
+ *         from which position onwards the recorded first occurrences can no longer be trusted. The counts
+ *         are always exact, so <code>contains</code> is O(1); <code>indexOf</code> fixes up the stale tail
+ *         lazily, once for any number of preceding middle edits.
+ *     </i>
+ * </p>
+ *
+ * <p>
+ *     <b>Invariant:</b> a recorded first occurrence below <code>staleFrom</code> is exact, and an element whose
+ *     recorded first occurrence is at or above <code>staleFrom</code> doesn't occur below <code>staleFrom</code>.
+ * </p>
+ *
+ * Elements must not change their <code>equals</code>/<code>hashCode</code> while they are in the list.
+ */
+final class ValueIndex {
+
+    /**
+     * Occurrences of a single distinct element.
+     */
+    private static final class Entry {
+
+        int count;
+
+        int first;
+    }
+
+    private final Map<Object, Entry> entries = new HashMap<>();
+
+    /**
+     * The position from which the recorded first occurrences are not trusted, <code>Integer.MAX_VALUE</code> if all are.
+     */
+    private int staleFrom = Integer.MAX_VALUE;
+
+    /**
+     * Index all elements from scratch.
+     *
+     * @param arr the backing array.
+     * @param size the number of elements in it.
+     */
+    void rebuild(Object[] arr, int size) {
+        entries.clear();
+        staleFrom = Integer.MAX_VALUE;
+
+        for (int i = 0; i < size; i++) {
+            appended(arr[i], i);
+        }
+    }
+
+    /**
+     * Register an element added after all others.
+     *
+     * @param element the added element.
+     * @param position its position, which is the last one.
+     */
+    void appended(Object element, int position) {
+        Entry entry = entries.computeIfAbsent(element, key -> new Entry());
+
+        if (entry.count++ == 0) {
+            entry.first = position;
+        }
+    }
+
+    /**
+     * Register an element inserted before other elements, which were shifted to the right.
+     *
+     * @param element the inserted element.
+     * @param position its position.
+     */
+    void inserted(Object element, int position) {
+        staleFrom = Math.min(staleFrom, position);
+
+        Entry entry = entries.computeIfAbsent(element, key -> new Entry());
+
+        entry.first = entry.count++ == 0 ? position : Math.min(entry.first, position);
+    }
+
+    /**
+     * Unregister a removed element.
+     *
+     * @param element the removed element.
+     * @param position the position it occupied.
+     * @param last whether it was the last element, so that nothing was shifted.
+     */
+    void removed(Object element, int position, boolean last) {
+        if (!last) {
+            staleFrom = Math.min(staleFrom, position);
+        }
+
+        Entry entry = entries.get(element);
+
+        if (entry != null && --entry.count == 0) {
+            entries.remove(element);
+        }
+    }
+
+    /**
+     * Register an element replacing another one at the same position, without shifting anything.
+     *
+     * @param replaced the element previously at the position.
+     * @param element the new element.
+     * @param position the position of the replacement.
+     */
+    void replaced(Object replaced, Object element, int position) {
+        removed(replaced, position, false);
+        inserted(element, position);
+    }
+
+    void cleared() {
+        entries.clear();
+        staleFrom = Integer.MAX_VALUE;
+    }
+
+    boolean contains(Object element) {
+        return entries.containsKey(element);
+    }
+
+    /**
+     * Get the position of the first occurrence, fixing up the stale positions if necessary.
+     *
+     * @param element the element to be searched.
+     * @param arr the backing array.
+     * @param size the number of elements in it.
+     * @return the position, or -1 if the element is not present.
+     */
+    int indexOf(Object element, Object[] arr, int size) {
+        Entry entry = entries.get(element);
+
+        if (entry == null) {
+            return -1;
+        }
+
+        if (entry.first >= staleFrom) {
+            fixUp(arr, size);
+        }
+
+        return entry.first;
+    }
+
+    /**
+     * Record again the first occurrences within the stale tail. Walking it backwards leaves the lowest
+     * position of every element, while the exact positions below <code>staleFrom</code> are left alone.
+     */
+    private void fixUp(Object[] arr, int size) {
+        for (int i = size - 1; i >= staleFrom; i--) {
+            Entry entry = entries.get(arr[i]);
+
+            if (entry.first >= staleFrom) {
+                entry.first = i;
+            }
+        }
+
+        staleFrom = Integer.MAX_VALUE;
+    }
+}